@@ -11,7 +11,8 @@ public final class BankException extends Exception {
     final GameError error;
 
     public BankException(GameError error) {
-        super(error.getMessage());
+        // an expected outcome under the game rules, the stack trace is of no use
+        super(error.getMessage(), null, false, false);
         this.error = error;
     }
 
@@ -8,7 +8,8 @@ public final class GameException extends Exception {
     final GameError error;
 
     public GameException(GameError error) {
-        super(error.getMessage());
+        // an expected outcome under the game rules, the stack trace is of no use
+        super(error.getMessage(), null, false, false);
         this.error = error;
     }
 
@@ -0,0 +1,53 @@
+package pp.muza.monopoly.errors;
+
+/**
+ * The outcome of an operation that is expected to fail under the game rules,
+ * e.g. paying without enough coins.
+ * <p>
+ * Instances are shared: there is one per {@link GameError} and {@link #OK}.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class Result {
+
+    public static final Result OK = new Result(null);
+    private static final Result[] ERRORS = new Result[GameError.values().length];
+
+    static {
+        for (GameError error : GameError.values()) {
+            ERRORS[error.ordinal()] = new Result(error);
+        }
+    }
+
+    private final GameError error;
+
+    private Result(GameError error) {
+        this.error = error;
+    }
+
+    public static Result of(GameError error) {
+        if (error == null) {
+            throw new NullPointerException("error is null");
+        }
+        return ERRORS[error.ordinal()];
+    }
+
+    public boolean isOk() {
+        return error == null;
+    }
+
+    /**
+     * Returns the reason of the failure.
+     *
+     * @return the error or null if the operation succeeded.
+     */
+    public GameError getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "OK" : error.name();
+    }
+}
@@ -10,12 +10,13 @@ public final class TurnException extends Exception {
     final GameError error;
 
     public TurnException(GameError e) {
-        super(e.getMessage());
+        // an expected outcome under the game rules, the stack trace is of no use
+        super(e.getMessage(), null, false, false);
         this.error = e;
     }
 
     public TurnException(Exception e) {
-        super(e.getMessage());
+        super(e.getMessage(), e, false, false);
         if (e instanceof TurnException) {
             this.error = ((TurnException) e).error;
         } else if (e instanceof GameException) {
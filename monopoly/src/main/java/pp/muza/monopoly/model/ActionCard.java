@@ -40,4 +40,13 @@ public interface ActionCard {
      */
     int getPriority();
 
+    /**
+     * Returns the key of the card in the game's state hash. Equal cards have equal
+     * keys, and unlike {@link Object#hashCode()} of a card, which hashes its enum
+     * fields by identity, the key is the same in every run.
+     *
+     * @return the key of the card
+     */
+    long stateKey();
+
 }
@@ -1,6 +1,9 @@
 package pp.muza.monopoly.model;
 
+import java.util.List;
+
 import pp.muza.monopoly.errors.BankException;
+import pp.muza.monopoly.errors.Result;
 
 /**
  * This interface represents a bank in the game.
@@ -36,6 +39,39 @@ public interface Bank {
      */
     void withdraw(Player player, int value) throws BankException;
 
+    /**
+     * Subtracts the given number from the player's balance if the player has
+     * enough coins.
+     *
+     * @param player the player to subtract coins from
+     * @param value  the number of coins to subtract
+     * @return {@link Result#OK} or the reason why the coins were not withdrawn
+     */
+    Result tryWithdraw(Player player, int value);
+
+    /**
+     * Moves coins from one player to another as a single operation: either both
+     * balances change or none.
+     *
+     * @param from  the player to take coins from
+     * @param to    the player to give coins to
+     * @param value the number of coins
+     * @return {@link Result#OK} or the reason why the coins were not moved
+     */
+    Result transfer(Player from, Player to, int value);
+
+    /**
+     * Moves the same number of coins from each of the payers to the payee: either
+     * all payers pay or none.
+     *
+     * @param payers the players to take coins from
+     * @param payee  the player to give coins to
+     * @param value  the number of coins each payer pays
+     * @return {@link Result#OK} or the reason why the coins were not moved
+     * @throws IllegalArgumentException if a payer is listed twice or is the payee
+     */
+    Result settle(List<Player> payers, Player payee, int value);
+
     /**
      * Set the player's balance to the given value.
      *
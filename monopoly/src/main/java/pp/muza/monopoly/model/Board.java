@@ -1,6 +1,10 @@
 package pp.muza.monopoly.model;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+
+import pp.muza.monopoly.model.pieces.lands.LandType;
+import pp.muza.stuff.IndexedEntry;
 
 /**
  * The Board interface.
@@ -44,6 +48,26 @@ public interface Board {
      */
     List<Integer> getPathTo(int startPos, int endPos);
 
+    /**
+     * Returns the precomputed move from the start position by the given distance.
+     * A distance of a full lap or more wraps around the board.
+     *
+     * @param start    the start position.
+     * @param distance the distance to move.
+     * @return the transition.
+     * @throws IllegalArgumentException if the distance is negative.
+     */
+    Transition getTransition(int start, int distance);
+
+    /**
+     * Returns the precomputed move from start (exclusive) to finish (inclusive).
+     *
+     * @param startPos start position
+     * @param endPos   finish position
+     * @return the transition.
+     */
+    Transition getTransitionTo(int startPos, int endPos);
+
     /**
      * Returns all the lands in the board.
      *
@@ -64,4 +88,52 @@ public interface Board {
      * @return returns the size of the board.
      */
     int size();
+
+    /**
+     * Returns the position of the property with the given asset.
+     *
+     * @param asset the asset.
+     * @return the position.
+     * @throws NoSuchElementException if there is no such property on the board.
+     */
+    int getPosition(Asset asset);
+
+    /**
+     * Returns positions of the properties of the given color.
+     *
+     * @param color the color.
+     * @return the immutable list of positions, empty if there are no such properties.
+     */
+    List<Integer> getPositions(PropertyColor color);
+
+    /**
+     * Returns positions of the lands of the given type.
+     *
+     * @param type the land type.
+     * @return the immutable list of positions, empty if there are no such lands.
+     */
+    List<Integer> getPositions(LandType type);
+
+    /**
+     * Returns all properties on the board with their positions.
+     *
+     * @return the immutable list of properties.
+     */
+    List<IndexedEntry<Property>> getProperties();
+
+    /**
+     * Returns the position of the jail.
+     *
+     * @return the position.
+     * @throws IllegalStateException if there is no jail on the board.
+     */
+    int getJailPosition();
+
+    /**
+     * Returns the fine to pay in order to get out of jail.
+     *
+     * @return the fine.
+     * @throws IllegalStateException if there is no jail on the board.
+     */
+    int getJailFine();
 }
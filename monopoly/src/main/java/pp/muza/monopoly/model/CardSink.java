@@ -0,0 +1,30 @@
+package pp.muza.monopoly.model;
+
+import java.util.List;
+
+/**
+ * Receives the cards spawned by a played action card.
+ *
+ * @author dmytromuza
+ */
+@FunctionalInterface
+public interface CardSink {
+
+    /**
+     * Adds a spawned card.
+     *
+     * @param card the card.
+     */
+    void add(ActionCard card);
+
+    /**
+     * Adds spawned cards in order.
+     *
+     * @param cards the cards.
+     */
+    default void addAll(List<ActionCard> cards) {
+        for (int i = 0, n = cards.size(); i < n; i++) {
+            add(cards.get(i));
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.util.NoSuchElementException;
 
 import pp.muza.monopoly.consts.RuleOption;
 import pp.muza.monopoly.errors.BankException;
+import pp.muza.monopoly.errors.GameError;
 import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.stuff.IndexedEntry;
 
 /**
@@ -49,6 +51,26 @@ public interface Game {
      */
     List<Land> moveTo(Player player, int position) throws GameException;
 
+    /**
+     * Moves the player by the given distance without building the path.
+     *
+     * @param player   the player.
+     * @param distance the distance to move.
+     * @return the transition the player made.
+     * @throws GameException if the player is not in the game.
+     */
+    Transition advance(Player player, int distance) throws GameException;
+
+    /**
+     * Moves the player to the given position without building the path.
+     *
+     * @param player   the player.
+     * @param position the position.
+     * @return the transition the player made.
+     * @throws GameException if the player is not in the game.
+     */
+    Transition advanceTo(Player player, int position) throws GameException;
+
     /**
      * Buys the property at the given position for the player.
      *
@@ -60,6 +82,18 @@ public interface Game {
      */
     void buyProperty(Player player, int position) throws GameException, BankException;
 
+    /**
+     * Buys the property at the given position for the player if the player has
+     * enough coins.
+     *
+     * @param player   the player.
+     * @param position the property to buy.
+     * @return {@link Result#OK} or {@link GameError#NOT_ENOUGH_COINS}.
+     * @throws GameException if there are some errors (e.g., someone already owns
+     *                       the property).
+     */
+    Result tryBuyProperty(Player player, int position) throws GameException;
+
     /**
      * Leaves the jail.
      *
@@ -210,6 +244,15 @@ public interface Game {
      */
     List<IndexedEntry<Property>> getFreeProperties();
 
+    /**
+     * Returns the properties which are not owned by the player:
+     * free properties and properties of other players.
+     *
+     * @param player the player.
+     * @return the list of properties.
+     */
+    List<IndexedEntry<Property>> getNotOwnedProperties(Player player);
+
     /**
      * Withdraws the given value of coins from a player.
      *
@@ -219,6 +262,16 @@ public interface Game {
      */
     void withdraw(Player player, int value) throws BankException;
 
+    /**
+     * Withdraws the given value of coins from a player if the player has enough
+     * coins.
+     *
+     * @param player the player.
+     * @param value  the value of coins to withdraw.
+     * @return {@link Result#OK} or {@link GameError#NOT_ENOUGH_COINS}.
+     */
+    Result tryWithdraw(Player player, int value);
+
     /**
      * Returns the list of all players in the game.
      *
@@ -253,6 +306,16 @@ public interface Game {
      */
     void doBid(Player player, int position, int value) throws GameException, BankException;
 
+    /**
+     * Checks the bid.
+     *
+     * @param player   the bidder
+     * @param position the position of the property
+     * @param value    the value of the bid
+     * @return {@link Result#OK} or the reason why the bid is not valid
+     */
+    Result tryBid(Player player, int position, int value);
+
     /**
      * Returns the balance of the player.
      *
@@ -315,4 +378,11 @@ public interface Game {
      * @throws GameException if operation fails (e.g., the property is not free).
      */
     void takeProperty(Player player, int position) throws GameException;
+
+    /**
+     * Returns the game's source of randomness.
+     *
+     * @return the random source.
+     */
+    RandomSource getRandom();
 }
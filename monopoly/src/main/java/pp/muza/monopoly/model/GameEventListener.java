@@ -0,0 +1,119 @@
+package pp.muza.monopoly.model;
+
+import java.util.List;
+
+/**
+ * Receives the events of a game.
+ * <p>
+ * All methods do nothing by default, so a listener implements only the events it
+ * is interested in. Listeners are called synchronously from the engine and must
+ * not modify the game. Lists passed to the listener are only valid during the
+ * call.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public interface GameEventListener {
+
+    /**
+     * The listener that ignores all events.
+     */
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    /**
+     * A new turn has started.
+     *
+     * @param player     the player of the turn.
+     * @param turnNumber the turn number.
+     * @param cards      the player's cards.
+     */
+    default void turnStarted(Player player, int turnNumber, List<ActionCard> cards) {
+    }
+
+    /**
+     * The player is going to play the card.
+     *
+     * @param player the player.
+     * @param card   the card.
+     */
+    default void cardPlayed(Player player, ActionCard card) {
+    }
+
+    /**
+     * The card has been played and the player received new cards.
+     *
+     * @param player the player.
+     * @param card   the played card.
+     * @param cards  the received cards, may be empty; valid only during the call.
+     */
+    default void cardsSpawned(Player player, ActionCard card, List<ActionCard> cards) {
+    }
+
+    /**
+     * The player ended the turn.
+     *
+     * @param player    the player.
+     * @param usedCards the cards played during the turn.
+     */
+    default void turnEnded(Player player, List<ActionCard> usedCards) {
+    }
+
+    /**
+     * The turn is held, other players should play their cards.
+     *
+     * @param player the player.
+     * @param cards  the player's cards.
+     */
+    default void turnHeld(Player player, List<ActionCard> cards) {
+    }
+
+    /**
+     * The turn is finished.
+     *
+     * @param player         the player.
+     * @param mandatoryCards the mandatory cards the player did not play.
+     */
+    default void turnFinished(Player player, List<ActionCard> mandatoryCards) {
+    }
+
+    /**
+     * The player has been moved, or stays at the same position.
+     *
+     * @param player the player.
+     * @param from   the old position.
+     * @param to     the new position.
+     */
+    default void moved(Player player, int from, int to) {
+    }
+
+    /**
+     * Coins have been withdrawn from the player.
+     *
+     * @param player  the player.
+     * @param value   the number of coins.
+     * @param balance the new balance.
+     */
+    default void paid(Player player, int value, int balance) {
+    }
+
+    /**
+     * Coins have been deposited to the player.
+     *
+     * @param player  the player.
+     * @param value   the number of coins.
+     * @param balance the new balance.
+     */
+    default void received(Player player, int value, int balance) {
+    }
+
+    /**
+     * The player's status has been changed.
+     *
+     * @param player the player.
+     * @param from   the old status, or null if the status is set for the first time.
+     * @param to     the new status.
+     */
+    default void statusChanged(Player player, PlayerStatus from, PlayerStatus to) {
+    }
+}
@@ -103,4 +103,28 @@ public interface PlayGame {
      * @return the turn's number.
      */
     int getTurnNumber();
+
+    /**
+     * Returns a 64-bit hash of the game state: the players' positions, statuses,
+     * balances and cards, the owners of the properties, the order of the fortune
+     * deck and the current player. Equal states have equal hashes within a JVM.
+     * The hash is maintained on every change, so the call is cheap.
+     *
+     * @return the hash.
+     */
+    long getStateHash();
+
+    /**
+     * Registers a listener for the game's events.
+     *
+     * @param listener the listener.
+     */
+    void addEventListener(GameEventListener listener);
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener.
+     */
+    void removeEventListener(GameEventListener listener);
 }
@@ -27,6 +27,25 @@ public interface PlayTurn {
      */
     void playCard(ActionCard actionCard) throws TurnException;
 
+    /**
+     * Plays the cards one by one in the given order.
+     *
+     * @param actionCards the cards to play.
+     * @throws TurnException if the player cannot play one of the cards, the cards
+     *                       before it are already played.
+     */
+    void playCards(List<ActionCard> actionCards) throws TurnException;
+
+    /**
+     * Plays the forced cards: while the only active card is a mandatory one, it is
+     * played on behalf of the player. Returns when the active cards contain a
+     * real choice, there are no active cards or the turn is finished.
+     *
+     * @return the number of played cards.
+     * @throws TurnException if the player cannot play a card.
+     */
+    int playForcedCards() throws TurnException;
+
     /**
      * Returns true if the turn is finished
      *
@@ -55,4 +74,13 @@ public interface PlayTurn {
      */
     void endTurn() throws TurnException;
 
+    /**
+     * Returns the source of randomness for the player's strategy. It is seeded from
+     * the game's source but kept apart from the dice and the decks, so the game can
+     * be replayed from the players' decisions alone.
+     *
+     * @return the random source.
+     */
+    RandomSource getRandom();
+
 }
@@ -0,0 +1,82 @@
+package pp.muza.monopoly.model;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * Source of randomness of a game.
+ * <p>
+ * Each game owns its own source, so games running in parallel do not share a
+ * generator, and a game started from the same seed plays the same dice and deck.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public interface RandomSource {
+
+    /**
+     * Returns a pseudorandom value between zero (inclusive) and the bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive.
+     * @return the value.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a pseudorandom long value.
+     *
+     * @return the value.
+     */
+    long nextLong();
+
+    /**
+     * Returns a new source that shares no state with this one.
+     * <p>
+     * The split source is determined by the current state of this source, so
+     * splitting keeps the sequence reproducible.
+     * </p>
+     *
+     * @return the new source.
+     */
+    RandomSource split();
+
+    /**
+     * Returns a new source in the same state as this one; both then produce the
+     * same sequence independently.
+     *
+     * @return the copy.
+     */
+    RandomSource copy();
+
+    /**
+     * Shuffles the list in place (Fisher-Yates).
+     *
+     * @param list the list to shuffle.
+     * @param <T>  the type of elements.
+     */
+    default <T> void shuffle(List<T> list) {
+        int size = list.size();
+        if (list instanceof RandomAccess) {
+            for (int i = size - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                list.set(i, list.set(j, list.get(i)));
+            }
+        } else {
+            Object[] array = list.toArray();
+            for (int i = size - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                Object temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+            ListIterator<T> it = list.listIterator();
+            for (Object element : array) {
+                it.next();
+                @SuppressWarnings("unchecked")
+                T value = (T) element;
+                it.set(value);
+            }
+        }
+    }
+}
@@ -20,4 +20,19 @@ public interface Strategy {
      */
     ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo);
 
+    /**
+     * Returns the card to be played.
+     * Strategies that make random choices should override this method and draw
+     * from the given source, so that the game can be reproduced from its seed.
+     *
+     * @param board    the board
+     * @param players  players listed in the game
+     * @param turnInfo the turn info.
+     * @param random   the game's random source.
+     * @return the card to be played, or null if no card should be played.
+     */
+    default ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo, RandomSource random) {
+        return playTurn(board, players, turnInfo);
+    }
+
 }
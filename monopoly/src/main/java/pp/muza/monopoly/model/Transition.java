@@ -0,0 +1,34 @@
+package pp.muza.monopoly.model;
+
+import lombok.Value;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+
+/**
+ * A move on the board from one position to another, precomputed per board.
+ *
+ * @author dmytromuza
+ */
+@Value
+public class Transition {
+
+    public static final int NONE = -1;
+
+    int from;
+    int to;
+    int distance;
+    /**
+     * The position of the first START land on the path (excluding the origin,
+     * including the destination), or {@link #NONE}.
+     */
+    int start;
+    LandType arrival;
+
+    /**
+     * Checks whether the move passes (or ends on) a START land.
+     *
+     * @return true if a START land is on the path.
+     */
+    public boolean passesStart() {
+        return start != NONE;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.NoSuchElementException;
 import pp.muza.monopoly.consts.RuleOption;
 import pp.muza.stuff.IndexedEntry;
 import pp.muza.monopoly.errors.BankException;
+import pp.muza.monopoly.errors.GameError;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.errors.TurnException;
 
 /**
@@ -41,6 +43,24 @@ public interface Turn {
      */
     List<Land> moveTo(int position) throws TurnException;
 
+    /**
+     * Moves the player by the given distance.
+     *
+     * @param distance the distance to move.
+     * @return the transition the player made.
+     * @throws TurnException if the player is not in the game.
+     */
+    Transition advance(int distance) throws TurnException;
+
+    /**
+     * Moves the player to the given position.
+     *
+     * @param position the position.
+     * @return the transition the player made.
+     * @throws TurnException if the player is not in the game.
+     */
+    Transition advanceTo(int position) throws TurnException;
+
 
     /**
      * Buys a property at the given position.
@@ -51,6 +71,15 @@ public interface Turn {
      */
     void buyProperty(int position) throws BankException, TurnException;
 
+    /**
+     * Buys a property at the given position if the player has enough coins.
+     *
+     * @param position the land id.
+     * @return {@link Result#OK} or {@link GameError#NOT_ENOUGH_COINS}.
+     * @throws TurnException if operation fails.
+     */
+    Result tryBuyProperty(int position) throws TurnException;
+
     /**
      * The player leaves jail.
      *
@@ -207,6 +236,13 @@ public interface Turn {
      */
     List<IndexedEntry<Property>> getFreeProperties();
 
+    /**
+     * returns properties which are not owned by the player (free or owned by others).
+     *
+     * @return the properties.
+     */
+    List<IndexedEntry<Property>> getNotOwnedProperties();
+
     /**
      * withdraws the value of coins from the player.
      *
@@ -215,6 +251,14 @@ public interface Turn {
      */
     void withdraw(int value) throws BankException;
 
+    /**
+     * withdraws the value of coins from the player if the player has enough coins.
+     *
+     * @param value to withdraw
+     * @return {@link Result#OK} or {@link GameError#NOT_ENOUGH_COINS}.
+     */
+    Result tryWithdraw(int value);
+
     /**
      * returns the turn's player.
      *
@@ -245,6 +289,15 @@ public interface Turn {
      */
     void doBid(int position, int price) throws TurnException;
 
+    /**
+     * Checks the bid.
+     *
+     * @param position the position.
+     * @param price    the price.
+     * @return {@link Result#OK} or the reason why the bid is not valid.
+     */
+    Result tryBid(int position, int price);
+
     /**
      * Returns the balance of the player.
      *
@@ -300,4 +353,11 @@ public interface Turn {
      * @throws TurnException if operation fails (wrong position, the property is not free).
      */
     void takeProperty(int position) throws TurnException;
+
+    /**
+     * Returns the game's source of randomness.
+     *
+     * @return the random source.
+     */
+    RandomSource getRandom();
 }
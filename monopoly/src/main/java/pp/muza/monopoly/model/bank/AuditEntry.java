@@ -0,0 +1,17 @@
+package pp.muza.monopoly.model.bank;
+
+import lombok.Value;
+import pp.muza.monopoly.model.Player;
+
+/**
+ * A money movement recorded by {@link BankAudit}; a null player stands for the
+ * bank itself.
+ *
+ * @author dmytromuza
+ */
+@Value
+public class AuditEntry {
+    Player from;
+    Player to;
+    int value;
+}
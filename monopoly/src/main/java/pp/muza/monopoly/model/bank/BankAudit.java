@@ -0,0 +1,66 @@
+package pp.muza.monopoly.model.bank;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.model.Player;
+
+/**
+ * The trail of the last money movements of a bank, kept in a ring buffer of a
+ * fixed size; older entries are overwritten.
+ *
+ * @author dmytromuza
+ */
+public final class BankAudit {
+
+    private final Player[] from;
+    private final Player[] to;
+    private final int[] values;
+    private long count;
+
+    /**
+     * Creates an audit trail.
+     *
+     * @param capacity the number of the last entries to keep.
+     */
+    public BankAudit(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.from = new Player[capacity];
+        this.to = new Player[capacity];
+        this.values = new int[capacity];
+    }
+
+    void record(Player from, Player to, int value) {
+        int i = (int) (count++ % values.length);
+        this.from[i] = from;
+        this.to[i] = to;
+        this.values[i] = value;
+    }
+
+    /**
+     * Returns the number of entries recorded so far, including the overwritten ones.
+     *
+     * @return the number of entries.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the kept entries, from the oldest to the newest.
+     *
+     * @return the entries.
+     */
+    public List<AuditEntry> getEntries() {
+        int size = (int) Math.min(count, values.length);
+        ImmutableList.Builder<AuditEntry> builder = ImmutableList.builderWithExpectedSize(size);
+        for (long n = count - size; n < count; n++) {
+            int i = (int) (n % values.length);
+            builder.add(new AuditEntry(from[i], to[i], values[i]));
+        }
+        return builder.build();
+    }
+}
@@ -1,14 +1,16 @@
 package pp.muza.monopoly.model.bank;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pp.muza.monopoly.errors.BankException;
 import pp.muza.monopoly.errors.GameError;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.model.Bank;
+import pp.muza.monopoly.model.GameEventListener;
 import pp.muza.monopoly.model.Player;
 
 /**
@@ -20,7 +22,70 @@ public class BankImpl implements Bank {
 
     private static final Logger LOG = LoggerFactory.getLogger(BankImpl.class);
 
-    private final Map<Player, Integer> playerCoins = new HashMap<>();
+    private final Player[] players;
+    private final int[] balances;
+    private final GameEventListener listener;
+    private BankAudit audit;
+
+    public BankImpl(List<Player> players) {
+        this(players, GameEventListener.NONE);
+    }
+
+    /**
+     * Creates a bank for the given players, which reports payments to the listener.
+     * Balances are stored by the player's index in the list.
+     *
+     * @param players  the players.
+     * @param listener the listener.
+     */
+    public BankImpl(List<Player> players, GameEventListener listener) {
+        this.players = players.toArray(new Player[0]);
+        this.balances = new int[this.players.length];
+        this.listener = listener;
+    }
+
+    private BankImpl(BankImpl other, GameEventListener listener) {
+        this.players = other.players.clone();
+        this.balances = other.balances.clone();
+        this.listener = listener;
+    }
+
+    /**
+     * Returns a bank with the same accounts, which reports payments to the given
+     * listener. The audit trail is not copied.
+     *
+     * @param listener the listener of the copy.
+     * @return the copy.
+     */
+    public BankImpl copy(GameEventListener listener) {
+        return new BankImpl(this, listener);
+    }
+
+    /**
+     * Gives the accounts to the players of a new game, all balances are set to zero.
+     *
+     * @param players the players, as many as the bank was created for.
+     */
+    public void reset(List<Player> players) {
+        if (players.size() != this.players.length) {
+            throw new IllegalArgumentException("Expected " + this.players.length + " players, got " + players.size());
+        }
+        players.toArray(this.players);
+        Arrays.fill(balances, 0);
+    }
+
+    /**
+     * Sets the trail to record the money movements to.
+     *
+     * @param audit the audit trail, or null to stop recording.
+     */
+    public void setAudit(BankAudit audit) {
+        this.audit = audit;
+    }
+
+    public BankAudit getAudit() {
+        return audit;
+    }
 
     private void checkCoins(int coins) {
         if (coins < 0) {
@@ -28,34 +93,136 @@ public class BankImpl implements Bank {
         }
     }
 
+    private int indexOf(Player player) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == player) {
+                return i;
+            }
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i].equals(player)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int checkPlayer(Player player) {
+        int index = indexOf(player);
+        if (index < 0) {
+            throw new IllegalArgumentException("Player " + player + " is not in the bank");
+        }
+        return index;
+    }
+
     @Override
     public int getBalance(Player player) {
-        return playerCoins.getOrDefault(player, 0);
+        int index = indexOf(player);
+        return index < 0 ? 0 : balances[index];
     }
 
     @Override
     public void deposit(Player player, int value) throws BankException {
         checkCoins(value);
-        LOG.info("Adding {} coins to {}", value, player);
-        playerCoins.put(player, playerCoins.getOrDefault(player, 0) + value);
-        LOG.info("{} has {} coin(s)", player, playerCoins.get(player));
+        int index = checkPlayer(player);
+        int balance = balances[index] + value;
+        balances[index] = balance;
+        if (audit != null) {
+            audit.record(null, player, value);
+        }
+        listener.received(player, value, balance);
     }
 
     @Override
     public void withdraw(Player player, int value) throws BankException {
+        Result result = tryWithdraw(player, value);
+        if (!result.isOk()) {
+            throw new BankException(result.getError());
+        }
+    }
+
+    @Override
+    public Result tryWithdraw(Player player, int value) {
+        checkCoins(value);
+        int index = checkPlayer(player);
+        int balance = balances[index];
+        if (balance < value) {
+            LOG.warn("{} has not enough coins {}, current balance: {}", player, value, balance);
+            return Result.of(GameError.NOT_ENOUGH_COINS);
+        }
+        balance -= value;
+        balances[index] = balance;
+        if (audit != null) {
+            audit.record(player, null, value);
+        }
+        listener.paid(player, value, balance);
+        return Result.OK;
+    }
+
+    @Override
+    public Result transfer(Player from, Player to, int value) {
         checkCoins(value);
-        LOG.info("Withdrawing {} coin(s) from player {}", value, player);
-        if (playerCoins.get(player).compareTo(value) < 0) {
-            LOG.warn("{} has not enough coins {}, current balance: {}", player, value, playerCoins.get(player));
-            throw new BankException(GameError.NOT_ENOUGH_COINS);
+        int payer = checkPlayer(from);
+        int payee = checkPlayer(to);
+        if (balances[payer] < value) {
+            LOG.warn("{} has not enough coins {} to pay {}, current balance: {}", from, value, to, balances[payer]);
+            return Result.of(GameError.NOT_ENOUGH_COINS);
         }
-        playerCoins.put(player, playerCoins.getOrDefault(player, 0) - value);
-        LOG.info("{} has {} coin(s)", player, playerCoins.get(player));
+        move(payer, payee, value);
+        return Result.OK;
+    }
+
+    @Override
+    public Result settle(List<Player> payers, Player payee, int value) {
+        checkCoins(value);
+        int to = checkPlayer(payee);
+        for (int i = 0, n = payers.size(); i < n; i++) {
+            Player payer = payers.get(i);
+            int from = checkPlayer(payer);
+            if (from == to) {
+                throw new IllegalArgumentException("Player " + payer + " cannot pay themselves");
+            }
+            for (int j = 0; j < i; j++) {
+                if (indexOf(payers.get(j)) == from) {
+                    throw new IllegalArgumentException("Player " + payer + " cannot pay twice");
+                }
+            }
+            if (balances[from] < value) {
+                LOG.warn("{} has not enough coins {} to pay {}", payer, value, payee);
+                return Result.of(GameError.NOT_ENOUGH_COINS);
+            }
+        }
+        for (int i = 0, n = payers.size(); i < n; i++) {
+            move(indexOf(payers.get(i)), to, value);
+        }
+        return Result.OK;
+    }
+
+    private void move(int from, int to, int value) {
+        int fromBalance = balances[from] - value;
+        balances[from] = fromBalance;
+        int toBalance = balances[to] + value;
+        balances[to] = toBalance;
+        if (audit != null) {
+            audit.record(players[from], players[to], value);
+        }
+        listener.paid(players[from], value, fromBalance);
+        listener.received(players[to], value, toBalance);
+    }
+
+    /**
+     * Sets the balance without reporting it, e.g. to undo a payment.
+     *
+     * @param player  the player.
+     * @param balance the balance.
+     */
+    public void restoreBalance(Player player, int balance) {
+        balances[checkPlayer(player)] = balance;
     }
 
     @Override
     public void set(Player player, int value) {
         LOG.info("Putting {} coin(s) in {}'s account", value, player);
-        playerCoins.put(player, value);
+        balances[checkPlayer(player)] = value;
     }
 }
@@ -1,12 +1,23 @@
 package pp.muza.monopoly.model.board;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import com.google.common.collect.ImmutableList;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import pp.muza.monopoly.model.Asset;
 import pp.muza.monopoly.model.Board;
 import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.Transition;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+import pp.muza.stuff.IndexedEntry;
 
 /**
  * Board implementation.
@@ -15,6 +26,7 @@ import pp.muza.monopoly.model.Land;
  *     <li>The board is a cycle.</li>
  *     <li>The start position is 0.</li>
  * </ul>
+ * Lookups by asset, color and land type are precomputed when the board is created.
  *
  * @author dmytromuza
  */
@@ -23,9 +35,14 @@ public class BoardImpl implements Board {
 
     ImmutableList<Land> lands;
     int startPosition = 0;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    BoardIndex index;
 
     public BoardImpl(List<Land> lands) {
         this.lands = ImmutableList.copyOf(lands);
+        this.index = new BoardIndex(this.lands);
     }
 
     @Override
@@ -42,10 +59,14 @@ public class BoardImpl implements Board {
         return tmp.build();
     }
 
-    private int nextPosition(int current) {
-        int next;
-        next = (current + 1) % lands.size();
-        return next;
+    private void checkPosition(int position) {
+        if (position < 0 || position >= lands.size()) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of the board");
+        }
+    }
+
+    private int distance(int startPos, int endPos) {
+        return Math.floorMod(endPos - startPos, lands.size());
     }
 
     @Override
@@ -53,27 +74,35 @@ public class BoardImpl implements Board {
         if (distance <= 0) {
             throw new IllegalArgumentException("Distance must be greater than 0");
         }
-        int current = start;
-        for (int i = distance; i > 0; i--) {
-            current = nextPosition(current);
-        }
-        return current;
+        return (start + distance) % lands.size();
     }
 
     @Override
     public List<Integer> getPathTo(int startPos, int endPos) {
-        ImmutableList.Builder<Integer> path = ImmutableList.builder();
-        int current = startPos;
-        int distance = 0;
-        while (current != endPos) {
-            current = nextPosition(current);
-            distance++;
-            path.add(current);
-            if (distance > lands.size()) {
-                throw new IllegalStateException("Path is too long");
-            }
+        checkPosition(startPos);
+        checkPosition(endPos);
+        int distance = distance(startPos, endPos);
+        Integer[] path = new Integer[distance];
+        for (int i = 0; i < distance; i++) {
+            path[i] = (startPos + i + 1) % lands.size();
+        }
+        return ImmutableList.copyOf(path);
+    }
+
+    @Override
+    public Transition getTransition(int start, int distance) {
+        checkPosition(start);
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative");
         }
-        return path.build();
+        return index.getTransition(start, distance % lands.size());
+    }
+
+    @Override
+    public Transition getTransitionTo(int startPos, int endPos) {
+        checkPosition(startPos);
+        checkPosition(endPos);
+        return index.getTransition(startPos, distance(startPos, endPos));
     }
 
     @Override
@@ -85,4 +114,45 @@ public class BoardImpl implements Board {
     public int size() {
         return lands.size();
     }
+
+    @Override
+    public int getPosition(Asset asset) {
+        int position = index.getPosition(asset);
+        if (position == BoardIndex.NONE) {
+            throw new NoSuchElementException("No land found with name " + asset);
+        }
+        return position;
+    }
+
+    @Override
+    public List<Integer> getPositions(PropertyColor color) {
+        return index.getPositions(color);
+    }
+
+    @Override
+    public List<Integer> getPositions(LandType type) {
+        return index.getPositions(type);
+    }
+
+    @Override
+    public List<IndexedEntry<Property>> getProperties() {
+        return index.getProperties();
+    }
+
+    @Override
+    public int getJailPosition() {
+        int position = index.getJailPosition();
+        if (position == BoardIndex.NONE) {
+            throw new IllegalStateException("No jail found");
+        }
+        return position;
+    }
+
+    @Override
+    public int getJailFine() {
+        if (index.getJailPosition() == BoardIndex.NONE) {
+            throw new IllegalStateException("No jail found");
+        }
+        return index.getJailFine();
+    }
 }
@@ -0,0 +1,115 @@
+package pp.muza.monopoly.model.board;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.model.Asset;
+import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.Transition;
+import pp.muza.monopoly.model.pieces.lands.Jail;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+import pp.muza.stuff.IndexedEntry;
+
+/**
+ * Lookups precomputed once per board.
+ *
+ * @author dmytromuza
+ */
+final class BoardIndex {
+
+    static final int NONE = -1;
+
+    private final int[] positionByAsset = new int[Asset.values().length];
+    private final Map<PropertyColor, ImmutableList<Integer>> positionsByColor = new EnumMap<>(PropertyColor.class);
+    private final Map<LandType, ImmutableList<Integer>> positionsByType = new EnumMap<>(LandType.class);
+    private final ImmutableList<IndexedEntry<Property>> properties;
+    private final int jailPosition;
+    private final int jailFine;
+    private final Transition[][] transitions;
+
+    BoardIndex(List<Land> lands) {
+        Arrays.fill(positionByAsset, NONE);
+        Map<PropertyColor, ImmutableList.Builder<Integer>> colors = new EnumMap<>(PropertyColor.class);
+        Map<LandType, ImmutableList.Builder<Integer>> types = new EnumMap<>(LandType.class);
+        ImmutableList.Builder<IndexedEntry<Property>> propertyBuilder = ImmutableList.builder();
+        int jail = NONE;
+        int fine = 0;
+        for (int i = 0; i < lands.size(); i++) {
+            Land land = lands.get(i);
+            types.computeIfAbsent(land.getType(), k -> ImmutableList.builder()).add(i);
+            if (land.getType() == LandType.PROPERTY) {
+                Property property = (Property) land;
+                if (positionByAsset[property.getAsset().ordinal()] == NONE) {
+                    positionByAsset[property.getAsset().ordinal()] = i;
+                }
+                colors.computeIfAbsent(property.getColor(), k -> ImmutableList.builder()).add(i);
+                propertyBuilder.add(new IndexedEntry<>(i, property));
+            } else if (land.getType() == LandType.JAIL && jail == NONE) {
+                jail = i;
+                fine = ((Jail) land).getFine();
+            }
+        }
+        colors.forEach((color, positions) -> positionsByColor.put(color, positions.build()));
+        types.forEach((type, positions) -> positionsByType.put(type, positions.build()));
+        this.properties = propertyBuilder.build();
+        this.jailPosition = jail;
+        this.jailFine = fine;
+        this.transitions = transitions(lands);
+    }
+
+    /**
+     * Builds the transition table: {@code transitions[from][distance]} for every
+     * distance shorter than a full lap.
+     */
+    private static Transition[][] transitions(List<Land> lands) {
+        int size = lands.size();
+        Transition[][] table = new Transition[size][size];
+        for (int from = 0; from < size; from++) {
+            int start = Transition.NONE;
+            table[from][0] = new Transition(from, from, 0, start, lands.get(from).getType());
+            for (int distance = 1; distance < size; distance++) {
+                int to = (from + distance) % size;
+                LandType type = lands.get(to).getType();
+                if (start == Transition.NONE && type == LandType.START) {
+                    start = to;
+                }
+                table[from][distance] = new Transition(from, to, distance, start, type);
+            }
+        }
+        return table;
+    }
+
+    int getPosition(Asset asset) {
+        return positionByAsset[asset.ordinal()];
+    }
+
+    List<Integer> getPositions(PropertyColor color) {
+        return positionsByColor.getOrDefault(color, ImmutableList.of());
+    }
+
+    List<Integer> getPositions(LandType type) {
+        return positionsByType.getOrDefault(type, ImmutableList.of());
+    }
+
+    List<IndexedEntry<Property>> getProperties() {
+        return properties;
+    }
+
+    int getJailPosition() {
+        return jailPosition;
+    }
+
+    int getJailFine() {
+        return jailFine;
+    }
+
+    Transition getTransition(int from, int distance) {
+        return transitions[from][distance];
+    }
+}
@@ -0,0 +1,292 @@
+package pp.muza.monopoly.model.board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import pp.muza.monopoly.model.Asset;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.ChancePile;
+import pp.muza.monopoly.model.Fortune;
+import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.Transition;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+
+/**
+ * Exact landing probabilities of a board, from the Markov chain of a player's
+ * position at the end of their turns.
+ * <ul>
+ *     <li>The states are the positions on the board and the jail: a player sent
+ *     to jail pays the fine on their next turn and does not move.</li>
+ *     <li>A turn rolls one die and moves forward; arriving at the GOTO_JAIL land
+ *     sends the player to jail, arriving at a CHANCE land draws a fortune card.</li>
+ *     <li>Fortune cards are drawn from the default pile as if it was shuffled
+ *     before every draw. The cards which move the player are followed, including
+ *     passing the START land; the others leave the player on the CHANCE land.
+ *     Where a card offers a choice, every option is taken with equal probability.</li>
+ * </ul>
+ * The analysis is computed once per board and cached.
+ *
+ * @author dmytromuza
+ */
+public final class LandingAnalysis {
+
+    private static final Map<Board, LandingAnalysis> CACHE = new ConcurrentHashMap<>();
+
+    private static final int DICE = 6;
+    private static final int MOVE_UP_TO = 5;
+    /**
+     * Draws followed within a turn, e.g. when a card lets the player take another one.
+     */
+    private static final int MAX_DRAWS = 8;
+    private static final double EPSILON = 1e-13;
+    private static final int MAX_ITERATIONS = 100_000;
+
+    private final Board board;
+    private final int jail;
+    private final double[] chances = new double[Chance.values().length];
+    private final double[][] transitions;
+    private final double[][] arrivals;
+    private final double[] startPasses;
+    private final double[] stationary;
+    private final double[] landing;
+    private final double startPassRate;
+
+    private LandingAnalysis(Board board) {
+        this.board = board;
+        this.jail = board.size();
+        List<Fortune> pile = ChancePile.defaultPile();
+        for (Fortune fortune : pile) {
+            chances[fortune.getChance().ordinal()] += 1.0 / pile.size();
+        }
+        int states = jail + 1;
+        this.transitions = new double[states][states];
+        this.arrivals = new double[states][board.size()];
+        this.startPasses = new double[states];
+        for (int position = 0; position < board.size(); position++) {
+            for (int distance = 1; distance <= DICE; distance++) {
+                move(position, board.getTransition(position, distance), 1.0 / DICE, 0);
+            }
+        }
+        transitions[jail][board.getJailPosition()] = 1;
+        this.stationary = stationary(transitions);
+        this.landing = new double[board.size()];
+        double passes = 0;
+        for (int state = 0; state < states; state++) {
+            for (int position = 0; position < board.size(); position++) {
+                landing[position] += stationary[state] * arrivals[state][position];
+            }
+            passes += stationary[state] * startPasses[state];
+        }
+        this.startPassRate = passes;
+    }
+
+    /**
+     * Returns the analysis of the board.
+     *
+     * @param board the board.
+     * @return the analysis, shared by equal boards.
+     */
+    public static LandingAnalysis of(Board board) {
+        return CACHE.computeIfAbsent(board, LandingAnalysis::new);
+    }
+
+    /**
+     * Returns the state of a player in jail; the other states are the positions.
+     *
+     * @return the jail state.
+     */
+    public int getJailState() {
+        return jail;
+    }
+
+    /**
+     * Returns the probability that a player in the first state ends their next turn in the second one.
+     *
+     * @param from the state at the start of the turn.
+     * @param to   the state at the end of the turn.
+     * @return the probability.
+     */
+    public double getTransition(int from, int to) {
+        return transitions[from][to];
+    }
+
+    /**
+     * Returns the long-run probability that a player ends a turn in the state.
+     *
+     * @param state the position, or {@link #getJailState()}.
+     * @return the probability.
+     */
+    public double getStationary(int state) {
+        return stationary[state];
+    }
+
+    /**
+     * Returns the expected number of arrivals at the position per turn, in the
+     * long run. Arrivals at lands the player leaves in the same turn (CHANCE,
+     * GOTO_JAIL) are counted too.
+     *
+     * @param position the position.
+     * @return the landing probability.
+     */
+    public double getLandingProbability(int position) {
+        return landing[position];
+    }
+
+    /**
+     * Returns the expected number of times per turn a player passes or ends on the START land.
+     *
+     * @return the rate.
+     */
+    public double getStartPassRate() {
+        return startPassRate;
+    }
+
+    /**
+     * Returns the rent the owner of the property expects per turn of an opponent.
+     *
+     * @param asset     the property.
+     * @param fullColor true if the owner has all the properties of the color, which doubles the rent.
+     * @return the expected rent.
+     * @throws NoSuchElementException if the asset is not on the board.
+     * @throws IllegalArgumentException if the land of the asset is not a property.
+     */
+    public double getExpectedRent(Asset asset, boolean fullColor) {
+        int position = board.getPosition(asset);
+        Land land = board.getLand(position);
+        if (!(land instanceof Property)) {
+            throw new IllegalArgumentException("Land " + land + " at " + position + " is not a property");
+        }
+        int price = ((Property) land).getPrice();
+        return landing[position] * price * (fullColor ? 2 : 1);
+    }
+
+    private void move(int from, Transition transition, double probability, int draws) {
+        if (transition.passesStart()) {
+            startPasses[from] += probability;
+        }
+        arrive(from, transition.getTo(), probability, draws);
+    }
+
+    private void arrive(int from, int position, double probability, int draws) {
+        arrivals[from][position] += probability;
+        switch (board.getLand(position).getType()) {
+            case GOTO_JAIL:
+                transitions[from][jail] += probability;
+                return;
+            case CHANCE:
+                if (draws < MAX_DRAWS) {
+                    draw(from, position, probability, draws + 1);
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        transitions[from][position] += probability;
+    }
+
+    private void draw(int from, int position, double probability, int draws) {
+        for (Chance chance : Chance.values()) {
+            double p = probability * chances[chance.ordinal()];
+            if (p == 0) {
+                continue;
+            }
+            switch (chance) {
+                case ADVANCE_TO_MAYFAIR:
+                    moveTo(from, position, List.of(board.getPosition(Asset.MAYFAIR)), p);
+                    break;
+                case ADVANCE_TO_YELLOW_OR_RAINBOW:
+                    moveTo(from, position, positions(PropertyColor.YELLOW, PropertyColor.RAINBOW), p);
+                    break;
+                case ADVANCE_TO_GREEN_OR_VIOLET:
+                    moveTo(from, position, positions(PropertyColor.GREEN, PropertyColor.VIOLET), p);
+                    break;
+                case ADVANCE_TO_BLUE_OR_ORANGE:
+                    moveTo(from, position, positions(PropertyColor.BLUE, PropertyColor.ORANGE), p);
+                    break;
+                case ADVANCE_TO_INDIGO_OR_RED:
+                    moveTo(from, position, positions(PropertyColor.RED, PropertyColor.INDIGO), p);
+                    break;
+                case ADVANCE_TO_GO_KARTS:
+                    moveTo(from, position, List.of(board.getPosition(Asset.GO_KARTS)), p);
+                    break;
+                case ADVANCE_TO_GO:
+                    moveTo(from, position, List.of(board.getStartPosition()), p);
+                    break;
+                case MOVE_FORWARD_ONE_SPACE:
+                    // move one space, or take another card
+                    move(from, board.getTransition(position, 1), p / 2, draws);
+                    if (draws < MAX_DRAWS) {
+                        draw(from, position, p / 2, draws + 1);
+                    } else {
+                        transitions[from][position] += p / 2;
+                    }
+                    break;
+                case MOVE_FORWARD_UP_TO_5_SPACES:
+                    for (int distance = 1; distance <= MOVE_UP_TO; distance++) {
+                        move(from, board.getTransition(position, distance), p / MOVE_UP_TO, draws);
+                    }
+                    break;
+                default:
+                    transitions[from][position] += p;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Moves to one of the properties; the player takes or rents it, so the arrival has no further effect.
+     */
+    private void moveTo(int from, int position, List<Integer> destinations, double probability) {
+        double p = probability / destinations.size();
+        for (int destination : destinations) {
+            move(from, board.getTransitionTo(position, destination), p, MAX_DRAWS);
+        }
+    }
+
+    private List<Integer> positions(PropertyColor first, PropertyColor second) {
+        List<Integer> result = new ArrayList<>(board.getPositions(first));
+        result.addAll(board.getPositions(second));
+        return result;
+    }
+
+    /**
+     * Returns the stationary distribution of the chain by power iteration.
+     */
+    private static double[] stationary(double[][] transitions) {
+        int states = transitions.length;
+        double[] current = new double[states];
+        double[] next = new double[states];
+        Arrays.fill(current, 1.0 / states);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            Arrays.fill(next, 0);
+            for (int from = 0; from < states; from++) {
+                double p = current[from];
+                if (p == 0) {
+                    continue;
+                }
+                double[] row = transitions[from];
+                for (int to = 0; to < states; to++) {
+                    next[to] += p * row[to];
+                }
+            }
+            double difference = 0;
+            for (int state = 0; state < states; state++) {
+                difference += Math.abs(next[state] - current[state]);
+            }
+            double[] temp = current;
+            current = next;
+            next = temp;
+            if (difference < EPSILON) {
+                break;
+            }
+        }
+        return current;
+    }
+}
@@ -26,12 +26,15 @@ import pp.muza.monopoly.model.Bank;
 import pp.muza.monopoly.model.Board;
 import pp.muza.monopoly.model.Fortune;
 import pp.muza.monopoly.model.Game;
+import pp.muza.monopoly.model.GameEventListener;
 import pp.muza.monopoly.model.Land;
 import pp.muza.monopoly.model.PlayTurn;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.PlayerStatus;
 import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.RandomSource;
 import pp.muza.monopoly.model.Turn;
+import pp.muza.monopoly.model.bank.BankAudit;
 import pp.muza.monopoly.model.bank.BankImpl;
 import pp.muza.monopoly.model.pieces.actions.Action;
 import pp.muza.monopoly.model.pieces.actions.Chance;
@@ -47,34 +50,78 @@ import pp.muza.monopoly.model.pieces.lands.LandType;
 public abstract class BaseGame {
 
     private static final Logger LOG = LoggerFactory.getLogger(BaseGame.class);
+    private static final PlayerStatus[] STATUSES = PlayerStatus.values();
 
     private final Map<RuleOption, String> ruleOptions = new HashMap<>();
+    private final GameEventDispatcher events = new GameEventDispatcher();
+    private final UndoLog undoLog = new UndoLog();
+    private final StateHash stateHash = new StateHash();
+    private final DeckHash deckHash = new DeckHash();
+    // the bank reports to the listeners through the undo log
+    private final GameEventListener bankEvents = new GameEventListener() {
+        @Override
+        public void paid(Player player, int value, int balance) {
+            int index = indexOf(player);
+            undoLog.record(UndoLog.BALANCE, index, balance + value, null);
+            stateHash.change(StateHash.BALANCE, index, balance + value, balance);
+            events.paid(player, value, balance);
+        }
+
+        @Override
+        public void received(Player player, int value, int balance) {
+            int index = indexOf(player);
+            undoLog.record(UndoLog.BALANCE, index, balance - value, null);
+            stateHash.change(StateHash.BALANCE, index, balance - value, balance);
+            events.received(player, value, balance);
+        }
+    };
+    private final SpawnedCards spawnedCards = new SpawnedCards();
     private final LinkedList<Fortune> fortuneCards;
-    private final Map<Integer, Player> propertyOwners = new HashMap<>();
-    private final Bank bank;
-    private final ImmutableList<Player> players;
-    private final Map<Player, PlayerData> playerData = new HashMap<>();
     private final Board board;
     private final Game game = new GameImpl(this);
     private final BaseGame thisGame = this;
+    // the state below is reinitialized in place by reset()
+    private BankImpl bank;
+    private ImmutableList<Player> players;
+    // the game state, indexed by the player's index or by the position on the board
+    private OwnershipIndex ownership;
+    private int[] positions;
+    private PlayerStatus[] statuses;
+    private PlayerData[] playerData;
+    private Map<Integer, Player> propertyOwners;
+    private RandomSource random;
+    // the strategies draw from their own stream, so a game can be replayed without them
+    private RandomSource playerRandom;
 
     BaseTurn currentTurn;
     int currentPlayerIndex = -1;
     int turnNumber = 0;
     int maxTurns = Constants.DEFAULT_MAX_TURNS;
     private boolean started = false;
+    private boolean reuseTurns = false;
+    private BaseTurn spareTurn;
 
-    BaseGame(GameInfo gameInfo) {
-        this.bank = new BankImpl();
+    BaseGame(GameInfo gameInfo, RandomSource random) {
+        registerLogging();
+        this.random = random;
+        this.playerRandom = random.split();
         this.board = gameInfo.getBoard();
         this.fortuneCards = new LinkedList<>(gameInfo.getFortunes());
         this.players = ImmutableList.copyOf(gameInfo.getPlayers());
+        this.bank = new BankImpl(this.players, bankEvents);
+        this.ownership = new OwnershipIndex(board, players.size());
+        this.positions = new int[players.size()];
+        this.statuses = new PlayerStatus[players.size()];
+        this.playerData = new PlayerData[players.size()];
+        this.propertyOwners = new PropertyOwners(ownership.ownerByPosition(), this.players);
+        checkDuplicates(this.players);
         this.maxTurns = gameInfo.getMaxTurns();
         this.currentPlayerIndex = gameInfo.getCurrentPlayerIndex();
         this.turnNumber = gameInfo.getTurnNumber();
         gameInfo.getRules().forEach(k -> ruleOptions.put(k.getKey(), k.getValue()));
-        for (Player player : this.players) {
-            PlayerData data = new PlayerData(player);
+        for (int index = 0; index < players.size(); index++) {
+            Player player = players.get(index);
+            PlayerData data = new PlayerData(player, index, positions, statuses, events, undoLog, stateHash);
             PlayerInfo playerInfo = gameInfo.getPlayerInfo().stream()
                     .filter(x -> x.getPlayer().equals(player))
                     .findFirst()
@@ -86,18 +133,20 @@ public abstract class BaseGame {
                     throw new IllegalStateException("Land is not a property");
                 }
                 assert land instanceof Property;
-                Player oldOwner = propertyOwners.put(position, player);
-                if (oldOwner != null) {
-                    throw new IllegalStateException("Property " + position + " is already owned by " + oldOwner);
+                if (ownership.getOwner(position) != OwnershipIndex.NO_OWNER) {
+                    throw new IllegalStateException("Property " + position + " is already owned by "
+                            + players.get(ownership.getOwner(position)));
                 }
+                ownership.setOwner(position, index);
             }
             for (ActionCard actionCard : playerInfo.getActionCards()) {
                 data.addCard(actionCard);
             }
             data.setStatus(playerInfo.getStatus());
             data.setPosition(playerInfo.getPosition());
-            playerData.put(player, data);
+            playerData[index] = data;
         }
+        rehash();
         started = currentPlayerIndex >= 0;
         if (started) {
             turnNumber--;
@@ -105,22 +154,174 @@ public abstract class BaseGame {
         }
     }
 
-    BaseGame(Bank bank, Board board, List<Fortune> fortuneCards, List<Player> players) {
-        this.bank = bank;
+    BaseGame(Board board, List<Fortune> fortuneCards, List<Player> players, RandomSource random) {
+        registerLogging();
         this.board = board;
-        this.fortuneCards = new LinkedList<>(fortuneCards);
-        this.players = ImmutableList.copyOf(players);
-        for (Player player : players) {
-            PlayerData info = new PlayerData(player);
+        this.fortuneCards = new LinkedList<>();
+        reset(fortuneCards, players, random);
+    }
+
+    /**
+     * Creates a copy of the game in its current state. Only the mutable state is
+     * copied; the board, the players and the cards are immutable and shared. The
+     * listeners and the bank audit are not copied.
+     *
+     * @param other  the game to copy.
+     * @param random the copy's random source, or null to continue the random sequences of the game.
+     */
+    private BaseGame(BaseGame other, RandomSource random) {
+        registerLogging();
+        this.board = other.board;
+        this.fortuneCards = new LinkedList<>(other.fortuneCards);
+        this.ruleOptions.putAll(other.ruleOptions);
+        this.players = other.players;
+        this.random = random != null ? random : other.random.copy();
+        this.playerRandom = random != null ? random.split() : other.playerRandom.copy();
+        this.bank = other.bank.copy(bankEvents);
+        this.ownership = new OwnershipIndex(other.ownership);
+        this.positions = other.positions.clone();
+        this.statuses = other.statuses.clone();
+        this.playerData = new PlayerData[other.playerData.length];
+        for (int index = 0; index < playerData.length; index++) {
+            playerData[index] = new PlayerData(other.playerData[index], positions, statuses, events, undoLog, stateHash);
+        }
+        this.propertyOwners = new PropertyOwners(ownership.ownerByPosition(), players);
+        this.currentPlayerIndex = other.currentPlayerIndex;
+        this.turnNumber = other.turnNumber;
+        this.maxTurns = other.maxTurns;
+        this.started = other.started;
+        this.reuseTurns = other.reuseTurns;
+        this.stateHash.set(other.stateHash.get());
+        this.deckHash.set(other.deckHash);
+        if (other.currentTurn != null) {
+            currentTurn = createTurn(other.currentTurn.getPlayer(), turnNumber);
+            currentTurn.copyProgress(other.currentTurn);
+        }
+    }
+
+    /**
+     * Returns an independent copy of the game in its current state, see
+     * {@link #BaseGame(BaseGame, RandomSource)}. The copy may be played on another thread.
+     *
+     * @return the copy.
+     */
+    BaseGame fork() {
+        return fork(null);
+    }
+
+    /**
+     * Returns an independent copy of the game in its current state, which draws
+     * from the given random source.
+     *
+     * @param random the copy's random source, or null to continue the random sequences of the game.
+     * @return the copy.
+     */
+    BaseGame fork(RandomSource random) {
+        return new BaseGame(this, random) {
+        };
+    }
+
+    /**
+     * Brings the game to the state of a new game on the same board. The state of the
+     * players is reused when their number is the same, the listeners are kept.
+     *
+     * @param fortuneCards the fortune cards, in the order they are taken.
+     * @param players      the players.
+     * @param random       the game's random source.
+     */
+    void reset(List<Fortune> fortuneCards, List<Player> players, RandomSource random) {
+        ImmutableList<Player> newPlayers = ImmutableList.copyOf(players);
+        checkDuplicates(newPlayers);
+        boolean reuse = this.players != null && this.players.size() == newPlayers.size();
+        this.random = random;
+        this.playerRandom = random.split();
+        this.players = newPlayers;
+        undoLog.clear();
+        this.fortuneCards.clear();
+        this.fortuneCards.addAll(fortuneCards);
+        ruleOptions.clear();
+        currentTurn = null;
+        currentPlayerIndex = -1;
+        turnNumber = 0;
+        maxTurns = Constants.DEFAULT_MAX_TURNS;
+        started = false;
+        int size = newPlayers.size();
+        if (reuse) {
+            bank.reset(newPlayers);
+            ownership.clear();
+        } else {
+            BankAudit audit = bank == null ? null : bank.getAudit();
+            bank = new BankImpl(newPlayers, bankEvents);
+            bank.setAudit(audit);
+            ownership = new OwnershipIndex(board, size);
+            positions = new int[size];
+            statuses = new PlayerStatus[size];
+            playerData = new PlayerData[size];
+        }
+        propertyOwners = new PropertyOwners(ownership.ownerByPosition(), newPlayers);
+        for (int index = 0; index < size; index++) {
+            Player player = newPlayers.get(index);
+            PlayerData info;
+            if (reuse) {
+                info = playerData[index];
+                info.reset(player);
+            } else {
+                info = new PlayerData(player, index, positions, statuses, events, undoLog, stateHash);
+                playerData[index] = info;
+            }
             info.setStatus(PlayerStatus.IN_GAME);
             info.setPosition(board.getStartPosition());
-            this.playerData.put(player, info);
+            bank.set(player, Constants.STARTING_AMOUNT);
         }
-        if (playerData.size() != players.size()) {
-            throw new IllegalArgumentException("Duplicate players");
+        rehash();
+    }
+
+    /**
+     * Lets the game reuse a single turn object for all its turns. A {@link PlayTurn}
+     * is then valid only until its turn is finished.
+     *
+     * @param reuseTurns true to reuse the turn object.
+     */
+    void setReuseTurns(boolean reuseTurns) {
+        this.reuseTurns = reuseTurns;
+        if (!reuseTurns) {
+            spareTurn = null;
         }
-        for (Player player : playerData.keySet()) {
-            bank.set(player, Constants.STARTING_AMOUNT);
+    }
+
+    private static void checkDuplicates(List<Player> players) {
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = i + 1; j < players.size(); j++) {
+                if (players.get(i).equals(players.get(j))) {
+                    throw new IllegalArgumentException("Duplicate players");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the player in the game.
+     *
+     * @param player the player.
+     * @return the index, or -1 if the player is not in the game.
+     */
+    int indexOf(Player player) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return i;
+            }
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).equals(player)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void registerLogging() {
+        if (LoggingEventListener.isEnabled()) {
+            events.add(LoggingEventListener.INSTANCE);
         }
     }
 
@@ -131,7 +332,7 @@ public abstract class BaseGame {
             if (temp >= players.size()) {
                 temp = 0;
             }
-        } while (playerData.get(players.get(temp)).getStatus().isFinal() && temp != currentPlayerIndex);
+        } while (statuses[temp].isFinal() && temp != currentPlayerIndex);
         return temp;
     }
 
@@ -142,21 +343,35 @@ public abstract class BaseGame {
         }
         Player currentPlayer = players.get(currentPlayerIndex);
         turnNumber++;
-        currentTurn = new BaseTurn(currentPlayer, turnNumber) {
+        if (spareTurn != null && !undoLog.isRecording()) {
+            // a reused turn cannot be restored by undo
+            spareTurn.reset(currentPlayer, turnNumber);
+            currentTurn = spareTurn;
+        } else {
+            currentTurn = createTurn(currentPlayer, turnNumber);
+            if (reuseTurns) {
+                spareTurn = currentTurn;
+            }
+        }
+        events.turnStarted(currentPlayer, turnNumber, playerData[currentPlayerIndex].getCards());
+    }
+
+    private BaseTurn createTurn(Player player, int turnNumber) {
+        return new BaseTurn(player, turnNumber) {
             @Override
             protected BaseGame baseGame() {
                 return thisGame;
             }
         };
-        LOG.info("{} is starting turn {}", currentPlayer, turnNumber);
-        LOG.debug("Player's cards: {} ", playerData.get(currentPlayer).getCards());
     }
 
     private void getBackChanceCards(Player player, boolean includeKeepable) {
-        PlayerData data = playerData.get(player);
-        List<ActionCard> chanceCards = data.getCards().stream()
-                .filter(x ->
-                        x.getAction() == Action.CHANCE && (includeKeepable || x.getType() != ActionType.KEEPABLE))
+        PlayerData data = playerData(player);
+        if (data.countCards(Action.CHANCE) == 0) {
+            return;
+        }
+        List<ActionCard> chanceCards = data.getCards(Action.CHANCE).stream()
+                .filter(x -> includeKeepable || x.getType() != ActionType.KEEPABLE)
                 .collect(Collectors.toList());
         chanceCards.stream().map(data::removeCard).forEach(this::getBackChanceCard);
     }
@@ -193,20 +408,175 @@ public abstract class BaseGame {
         }
         LOG.info("Fortune card '{}; returned", card);
         fortuneCards.addLast(fortune);
+        undoLog.record(UndoLog.DECK_RETURN, 0, 0, null);
+        deckHash.addLast(fortune);
     }
 
     //================================================================================================
 
     List<Integer> belongings(Player player) {
-        return propertyOwners.entrySet().stream()
-                .filter(x -> x.getValue() == player)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toUnmodifiableList());
+        int index = indexOf(player);
+        return index < 0 ? ImmutableList.of() : ownership.belongings(index);
+    }
+
+    OwnershipIndex getOwnership() {
+        return ownership;
+    }
+
+    private void setOwner(int position, int owner) {
+        int oldOwner = ownership.setOwner(position, owner);
+        if (oldOwner != owner) {
+            undoLog.record(UndoLog.OWNER, position, oldOwner, null);
+            stateHash.change(StateHash.OWNER, position, oldOwner, owner);
+        }
+    }
+
+    private void recordTurn() {
+        undoLog.record(UndoLog.TURN, currentPlayerIndex, turnNumber, currentTurn);
+    }
+
+    UndoLog undoLog() {
+        return undoLog;
+    }
+
+    /**
+     * Starts recording the changes of the game, if not yet, and returns the point to
+     * undo to.
+     *
+     * @return the mark.
+     */
+    int mark() {
+        return undoLog.mark();
+    }
+
+    /**
+     * Brings the game back to the state it had at the mark, in the number of changes
+     * made since then, updating the state hash with every change, so that a mark can
+     * be undone to any number of times. The random sources and the bank audit are
+     * not rewound, and no events are reported.
+     *
+     * @param mark the mark returned by {@link #mark()}.
+     */
+    void undo(int mark) {
+        if (mark < 0 || mark > undoLog.size()) {
+            throw new IllegalArgumentException("Invalid mark: " + mark);
+        }
+        while (undoLog.size() > mark) {
+            undoLog.pop();
+            int a = undoLog.first();
+            int b = undoLog.second();
+            Object ref = undoLog.ref();
+            switch (undoLog.op()) {
+                case UndoLog.OWNER:
+                    stateHash.change(StateHash.OWNER, a, ownership.setOwner(a, b), b);
+                    break;
+                case UndoLog.BALANCE:
+                    stateHash.change(StateHash.BALANCE, a, bank.getBalance(players.get(a)), b);
+                    bank.restoreBalance(players.get(a), b);
+                    break;
+                case UndoLog.POSITION:
+                    stateHash.change(StateHash.POSITION, a, positions[a], b);
+                    positions[a] = b;
+                    break;
+                case UndoLog.STATUS:
+                    stateHash.change(StateHash.STATUS, a, statuses[a] == null ? -1 : statuses[a].ordinal(), b);
+                    statuses[a] = b < 0 ? null : STATUSES[b];
+                    break;
+                case UndoLog.HAND_ADD:
+                    playerData[a].getHand().undoAdd();
+                    break;
+                case UndoLog.HAND_REMOVE:
+                    playerData[a].getHand().undoRemove(b, (ActionCard) ref);
+                    break;
+                case UndoLog.HAND_HOLD:
+                    playerData[a].getHand().undoHold(b, false);
+                    break;
+                case UndoLog.HAND_RELEASE:
+                    playerData[a].getHand().undoHold(b, true);
+                    break;
+                case UndoLog.DECK_TAKE:
+                    fortuneCards.addFirst((Fortune) ref);
+                    deckHash.addFirst((Fortune) ref);
+                    break;
+                case UndoLog.DECK_RETURN:
+                    deckHash.removeLast(fortuneCards.removeLast());
+                    break;
+                case UndoLog.DECK_PICK:
+                    fortuneCards.add(a, (Fortune) ref);
+                    deckHash.set(fortuneCards);
+                    break;
+                case UndoLog.DECK_TOP:
+                    fortuneCards.removeFirst();
+                    fortuneCards.add(a, (Fortune) ref);
+                    deckHash.set(fortuneCards);
+                    break;
+                case UndoLog.TURN:
+                    currentPlayerIndex = a;
+                    turnNumber = b;
+                    currentTurn = (BaseTurn) ref;
+                    break;
+                case UndoLog.STEP:
+                case UndoLog.USED:
+                case UndoLog.FINISH:
+                    ((BaseTurn) ref).undo(undoLog.op(), a);
+                    break;
+                case UndoLog.START:
+                    started = false;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown undo operation " + undoLog.op());
+            }
+        }
+    }
+
+    /**
+     * Returns the hash of the players' positions, statuses, balances and hands, the
+     * owners of the properties, the order of the fortune deck and the current
+     * player. It is kept up to date on every change, see {@link StateHash}.
+     *
+     * @return the hash.
+     */
+    long getStateHash() {
+        return stateHash.get() ^ deckHash.get() ^ StateHash.key(StateHash.CURRENT, currentPlayerIndex, 0);
+    }
+
+    /**
+     * Computes the hash kept in {@link #stateHash} from scratch.
+     *
+     * @return the hash.
+     */
+    long computeStateHash() {
+        long result = 0;
+        for (int index = 0; index < players.size(); index++) {
+            PlayerStatus status = statuses[index];
+            result ^= StateHash.key(StateHash.POSITION, index, positions[index]);
+            result ^= StateHash.key(StateHash.STATUS, index, status == null ? -1 : status.ordinal());
+            result ^= StateHash.key(StateHash.BALANCE, index, bank.getBalance(players.get(index)));
+            result ^= playerData[index].getHand().computeHash();
+        }
+        int[] owners = ownership.ownerByPosition();
+        for (int position = 0; position < owners.length; position++) {
+            result ^= StateHash.key(StateHash.OWNER, position, owners[position]);
+        }
+        return result;
+    }
+
+    private void rehash() {
+        stateHash.set(computeStateHash());
+        deckHash.set(fortuneCards);
+    }
+
+    /**
+     * Drops the recorded changes and stops recording.
+     */
+    void clearUndo() {
+        undoLog.clear();
     }
 
     void propertyOwnerRemove(int position) {
         Property property = (Property) board.getLand(position);
-        Player oldOwner = propertyOwners.remove(position);
+        Player oldOwner = getPropertyOwner(position);
+        setOwner(position, OwnershipIndex.NO_OWNER);
         if (oldOwner != null) {
             LOG.info("{} lost property {} ({})", oldOwner, position, property);
             LOG.info("Property {} ({}) is now free", position, property);
@@ -216,21 +586,64 @@ public abstract class BaseGame {
     }
 
     PlayerData playerData(Player player) {
-        return playerData.get(player);
+        int index = indexOf(player);
+        return index < 0 ? null : playerData[index];
     }
 
     Bank getBank() {
         return bank;
     }
 
+    void setBankAudit(BankAudit audit) {
+        bank.setAudit(audit);
+    }
+
     Fortune takeFortuneCard() {
-        return fortuneCards.removeFirst();
+        Fortune fortune = fortuneCards.removeFirst();
+        undoLog.record(UndoLog.DECK_TAKE, 0, 0, fortune);
+        deckHash.removeFirst(fortune);
+        return fortune;
+    }
+
+    List<Fortune> getFortuneCards() {
+        return Collections.unmodifiableList(fortuneCards);
+    }
+
+    /**
+     * Moves the first fortune card of the chance to the top of the deck, so that it
+     * is taken next.
+     *
+     * @param chance the chance.
+     * @return false if there is no card of the chance in the deck.
+     */
+    boolean putFortuneCardOnTop(Chance chance) {
+        int index = 0;
+        for (Fortune fortune : fortuneCards) {
+            if (fortune.getChance() == chance) {
+                break;
+            }
+            index++;
+        }
+        if (index == fortuneCards.size()) {
+            return false;
+        }
+        Fortune fortune = fortuneCards.remove(index);
+        fortuneCards.addFirst(fortune);
+        undoLog.record(UndoLog.DECK_TOP, index, 0, fortune);
+        deckHash.set(fortuneCards);
+        return true;
     }
 
     boolean isGameInProgress() {
         boolean inProgress = (currentTurn != null && !currentTurn.isFinished());
         inProgress |= (getNextPlayerIndex() != currentPlayerIndex);
-        boolean lastPlayer = getPlayers().stream().filter(x -> !playerData.get(x).getStatus().isFinal()).count() < 2;
+        int playersInGame = 0;
+        for (PlayerStatus status : statuses) {
+            if (!status.isFinal()) {
+                playersInGame++;
+            }
+        }
+        boolean lastPlayer = playersInGame < 2;
         return inProgress && started && !lastPlayer;
     }
 
@@ -245,21 +658,17 @@ public abstract class BaseGame {
 
     private void releaseTurn() {
         Player player = currentTurn.getPlayer();
-        PlayerData data = playerData.get(player);
+        PlayerData data = playerData(player);
         data.releaseAll();
     }
 
     void holdTurn(Turn turn) throws GameException {
         checkTurn(turn);
         Player player = currentTurn.getPlayer();
-        LOG.debug("{} is holding turn", turn.getPlayer());
         releaseTurn();
-        PlayerData data = playerData.get(player);
-        List<ActionCard> mandatoryCards = data.getCards().stream().filter(actionCard -> actionCard.getType().isMandatory()).collect(Collectors.toList());
-        if (mandatoryCards.size() > 0) {
-            LOG.info("Player {} has mandatory cards: {}", player, mandatoryCards.stream().map(ActionCard::getName).collect(Collectors.toList()));
-        }
+        events.turnHeld(player, playerData(player).getCards());
         currentTurn.markFinished();
+        recordTurn();
         currentTurn = null;
     }
 
@@ -268,16 +677,17 @@ public abstract class BaseGame {
         Player player = currentTurn.getPlayer();
         LOG.debug("Finishing turn for {}", player);
         releaseTurn();
-        PlayerData data = playerData.get(player);
-        List<ActionCard> mandatoryCards = data.getCards().stream().filter(actionCard -> actionCard.getType().isMandatory()).collect(Collectors.toList());
-        ActionCard endTurn = mandatoryCards.stream().filter(actionCard -> actionCard.getAction() == Action.END_TURN).findFirst().orElse(null);
+        PlayerData data = playerData(player);
+        List<ActionCard> mandatoryCards = data.getMandatoryCards();
+        ActionCard endTurn = data.countCards(Action.END_TURN) == 0 ? null
+                : mandatoryCards.stream().filter(actionCard -> actionCard.getAction() == Action.END_TURN).findFirst().orElse(null);
         if (endTurn != null) {
             data.removeCard(endTurn);
             mandatoryCards.remove(endTurn);
         }
         currentTurn.markFinished();
+        events.turnFinished(player, mandatoryCards);
         if (mandatoryCards.size() > 0) {
-            LOG.info("Player {} has mandatory cards: {}", player, mandatoryCards.stream().map(ActionCard::getName).collect(Collectors.toList()));
             // Player with obligation cards is out of the game.
             data.setStatus(PlayerStatus.OUT_OF_GAME);
 
@@ -291,6 +701,7 @@ public abstract class BaseGame {
             return;
         }
         getBackChanceCards(player, false);
+        recordTurn();
         currentTurn = null;
     }
 
@@ -305,18 +716,19 @@ public abstract class BaseGame {
             throw new GameException(GameError.GAME_ALREADY_STARTED);
         }
         LOG.info("Starting game");
+        undoLog.record(UndoLog.START, 0, 0, null);
         started = true;
     }
 
     PlayTurn getTurn() throws GameException {
         checkStarted();
         if (currentTurn == null || currentTurn.isFinished()) {
+            recordTurn();
             nextPlayer();
             newTurn();
             Player currentPlayer = players.get(currentPlayerIndex);
             // check if the player has end turn card
-            boolean endTurn = playerData(currentPlayer).getCards().stream()
-                    .anyMatch(actionCard -> actionCard.getAction() == Action.END_TURN);
+            boolean endTurn = playerData(currentPlayer).countCards(Action.END_TURN) > 0;
             if (!endTurn) {
                 // if not, then the player can start a new turn
                 playerData(currentPlayer).addCard(NewTurn.create());
@@ -330,7 +742,7 @@ public abstract class BaseGame {
     }
 
     List<ActionCard> getActiveCards(Player player) {
-        PlayerData data = playerData.get(player);
+        PlayerData data = playerData(player);
 
         /*
           TODO: 11.10.2022
@@ -345,31 +757,70 @@ public abstract class BaseGame {
     }
 
     List<ActionCard> getCards(Player player) {
-        return playerData.get(player).getCards();
+        return playerData(player).getCards();
     }
 
     Board getBoard() {
         return board;
     }
 
+    GameEventDispatcher events() {
+        return events;
+    }
+
+    SpawnedCards spawnedCards() {
+        return spawnedCards;
+    }
+
+    void addEventListener(GameEventListener listener) {
+        events.add(listener);
+    }
+
+    void removeEventListener(GameEventListener listener) {
+        events.remove(listener);
+    }
+
+    RandomSource getRandom() {
+        return random;
+    }
+
+    RandomSource getPlayerRandom() {
+        return playerRandom;
+    }
+
     List<Player> getPlayers() {
         return players;
     }
 
     PlayerInfo getPlayerInfo(Player player) {
-        PlayerData data = playerData.get(player);
-        return PlayerInfo.builder()
-                .player(player)
-                .position(data.getPosition())
-                .status(data.getStatus())
-                .coins(bank.getBalance(player))
-                .actionCards(data.getCards())
-                .belongings(belongings(player))
-                .build();
+        PlayerData data = playerData(player);
+        int coins = bank.getBalance(player);
+        // the hand and the ownership index keep their lists until they change,
+        // so the same lists mean the same state
+        List<ActionCard> cards = data.getCards();
+        List<Integer> belongings = belongings(player);
+        PlayerInfo info = data.getInfo();
+        if (info == null
+                || info.getPosition() != data.getPosition()
+                || info.getStatus() != data.getStatus()
+                || info.getCoins() != coins
+                || info.getActionCards() != cards
+                || info.getBelongings() != belongings) {
+            info = PlayerInfo.builder()
+                    .player(player)
+                    .position(data.getPosition())
+                    .status(data.getStatus())
+                    .coins(coins)
+                    .actionCards(cards)
+                    .belongings(belongings)
+                    .build();
+            data.setInfo(info);
+        }
+        return info;
     }
 
     Map<Integer, Player> getPropertyOwners() {
-        return Collections.unmodifiableMap(propertyOwners);
+        return propertyOwners;
     }
 
     void setPropertyOwner(int position, Player player) {
@@ -377,7 +828,12 @@ public abstract class BaseGame {
             throw new IllegalArgumentException("Player cannot be null");
         }
         Property property = (Property) getBoard().getLand(position);
-        Player oldOwner = propertyOwners.put(position, player);
+        int index = indexOf(player);
+        if (index < 0) {
+            throw new IllegalArgumentException("Player " + player + " is not in the game");
+        }
+        Player oldOwner = getPropertyOwner(position);
+        setOwner(position, index);
         if (oldOwner == player) {
             LOG.warn("Player {} already owns property {} ({})", player, position, property);
         } else if (oldOwner != null) {
@@ -388,7 +844,8 @@ public abstract class BaseGame {
     }
 
     Player getPropertyOwner(int position) {
-        return propertyOwners.get(position);
+        int index = ownership.getOwner(position);
+        return index == OwnershipIndex.NO_OWNER ? null : players.get(index);
     }
 
     int getTurnNumber() {
@@ -419,6 +876,8 @@ public abstract class BaseGame {
         if (index.isPresent()) {
             LOG.info("Fortune card '{}' removed from pile", chance.name());
             result = fortuneCards.remove(index.getAsInt());
+            undoLog.record(UndoLog.DECK_PICK, index.getAsInt(), 0, result);
+            deckHash.set(fortuneCards);
         } else {
             LOG.error("Fortune card '{}' not found", chance.name());
             result = null;
@@ -431,7 +890,7 @@ public abstract class BaseGame {
      */
     void sendCardTest(Player to, ActionCard actionCard) {
         LOG.info("Sending card '{}' to {}", actionCard, to);
-        playerData.get(to).addCard(actionCard);
+        playerData(to).addCard(actionCard);
     }
 
     public String getRuleOptions(RuleOption option) {
@@ -7,6 +7,9 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.data.PlayerInfo;
 import pp.muza.monopoly.data.TurnInfo;
 import pp.muza.monopoly.errors.GameError;
 import pp.muza.monopoly.errors.GameException;
@@ -31,12 +34,14 @@ public abstract class BaseTurn {
     public static final int MAX_STEPS_PER_TURN = 100;
     private static final Logger LOG = LoggerFactory.getLogger(BaseTurn.class);
 
-    private final Player player;
-    private final int turnNumber;
-    private final Turn turn;
+    private Player player;
+    private int turnNumber;
+    private final TurnImpl turn;
     private final PlayTurn playTurn;
 
     private final List<ActionCard> usedCards = new ArrayList<>();
+    private List<ActionCard> usedCardsSnapshot = ImmutableList.of();
+    private TurnInfo turnInfo;
     private boolean finished = false;
     private int steps = 0;
 
@@ -47,6 +52,36 @@ public abstract class BaseTurn {
         this.playTurn = new PlayTurnImpl(this);
     }
 
+    /**
+     * Makes this object the new turn of the given player, for games that reuse
+     * their turns.
+     *
+     * @param player     the player.
+     * @param turnNumber the turn number.
+     */
+    void reset(Player player, int turnNumber) {
+        this.player = player;
+        this.turnNumber = turnNumber;
+        turn.reset(player);
+        usedCards.clear();
+        usedCardsSnapshot = ImmutableList.of();
+        turnInfo = null;
+        finished = false;
+        steps = 0;
+    }
+
+    /**
+     * Brings this new turn to the progress of a turn of the game it was forked from.
+     *
+     * @param other the turn of the original game.
+     */
+    void copyProgress(BaseTurn other) {
+        usedCards.addAll(other.usedCards);
+        usedCardsSnapshot = other.usedCardsSnapshot;
+        finished = other.finished;
+        steps = other.steps;
+    }
+
     private static void markNotPlayed(ActionCard card, PlayerData playerData) {
         if (card.getType() == ActionType.PROFIT) {
             // Profit cards can be played only once
@@ -78,7 +113,37 @@ public abstract class BaseTurn {
     }
 
     void markFinished() {
-        finished = true;
+        if (!finished) {
+            baseGame().undoLog().record(UndoLog.FINISH, 0, 0, this);
+            finished = true;
+        }
+    }
+
+    /**
+     * Reverts a change recorded to the game's undo log.
+     *
+     * @param op    the operation, one of {@link UndoLog#STEP}, {@link UndoLog#USED}
+     *              and {@link UndoLog#FINISH}.
+     * @param value the argument of the operation.
+     */
+    void undo(int op, int value) {
+        switch (op) {
+            case UndoLog.STEP:
+                steps = value;
+                break;
+            case UndoLog.USED:
+                ActionCard card = usedCards.remove(usedCards.size() - 1);
+                if (value >= 0) {
+                    usedCards.add(value, card);
+                }
+                usedCardsSnapshot = null;
+                break;
+            case UndoLog.FINISH:
+                finished = false;
+                break;
+            default:
+                throw new IllegalArgumentException("Not a turn operation: " + op);
+        }
     }
 
     Turn getTurn() {
@@ -86,16 +151,20 @@ public abstract class BaseTurn {
     }
 
     private void markPlayed(ActionCard actionCard, PlayerData playerData, int currentPriority) {
-        if (usedCards.remove(actionCard)) {
+        int used = usedCards.indexOf(actionCard);
+        if (used >= 0) {
             LOG.warn("Card {} was already used", actionCard);
+            usedCards.remove(used);
         }
         usedCards.add(actionCard);
-        if (actionCard.getType() == ActionType.CHOICE) {
+        usedCardsSnapshot = null;
+        baseGame().undoLog().record(UndoLog.USED, used, 0, this);
+        if (actionCard.getType() == ActionType.CHOICE && playerData.countCards(ActionType.CHOICE) > 0) {
             List<ActionCard> chooses = playerData.getCards()
                     .stream()
                     .filter(it -> it.getType() == ActionType.CHOICE && it.getPriority() <= currentPriority)
                     .collect(Collectors.toList());
-            LOG.debug("Removing choose cards from player's hand: {}", chooses.stream().map(ActionCard::getName).collect(Collectors.toList()));
+            LOG.debug("Removing choose cards from player's hand: {}", chooses);
             for (ActionCard choose : chooses) {
                 playerData.removeCard(choose);
             }
@@ -127,25 +196,28 @@ public abstract class BaseTurn {
                     card = ((SyncCard) card).sync((SyncCard) actionCard);
                 }
                 LOG.debug("Playing card: {}", card);
-                List<ActionCard> result = card.play(turn);
-                if (result.size() > 0) {
-                    LOG.info("Card '{}' has been played by {}, and received the following cards: {}",
-                            card,
-                            player,
-                            result.stream().map(ActionCard::getName).collect(Collectors.toList()));
-                } else {
-                    LOG.info("{} received no cards.", player);
+                SpawnedCards spawned = baseGame().spawnedCards();
+                if (!spawned.begin(card)) {
+                    spawned = new SpawnedCards();
+                    spawned.begin(card);
                 }
-                cardUsed = !result.contains(card);
-                if (!cardUsed) {
-                    LOG.debug("Card {} was not used", card);
-                }
-                for (ActionCard newCard : result) {
-                    if (playerData.addCard(newCard)) {
-                        if (!newCardsSpawned && !card.equals(newCard)) {
-                            newCardsSpawned = true;
+                try {
+                    card.play(turn, spawned);
+                    baseGame().events().cardsSpawned(player, card, spawned.getCards());
+                    cardUsed = !spawned.isRespawned();
+                    if (!cardUsed) {
+                        LOG.debug("Card {} was not used", card);
+                    }
+                    for (int i = 0, n = spawned.size(); i < n; i++) {
+                        ActionCard newCard = spawned.get(i);
+                        if (playerData.addCard(newCard)) {
+                            if (!newCardsSpawned && !card.equals(newCard)) {
+                                newCardsSpawned = true;
+                            }
                         }
                     }
+                } finally {
+                    spawned.end();
                 }
             } else {
                 LOG.error("Card '{}' is not found in the player's active cards.", actionCard);
@@ -166,6 +238,7 @@ public abstract class BaseTurn {
             throw new TurnException(GameError.THE_CARD_IS_NULL);
         }
         checkFinished();
+        baseGame().undoLog().record(UndoLog.STEP, steps, 0, this);
         steps++;
         if (steps > MAX_STEPS_PER_TURN) {
             throw new IllegalStateException("Too many steps in the turn.");
@@ -174,7 +247,7 @@ public abstract class BaseTurn {
         PlayerData playerData = baseGame().playerData(player);
         int currentPriority = playerData.getCurrentPriority();
         LOG.debug("{}'s current priority: {}", player, currentPriority);
-        LOG.info("'{}' is being played by {}", card, player);
+        baseGame().events().cardPlayed(player, card);
         ActionCard playedCard = doPlayCard(card);
         boolean result = playedCard != null;
         if (result) {
@@ -184,19 +257,72 @@ public abstract class BaseTurn {
         }
     }
 
+    /**
+     * Plays the cards in order, stopping at the first one that fails.
+     *
+     * @param cards the cards to play.
+     * @throws TurnException if the player cannot play a card.
+     */
+    void playCards(List<ActionCard> cards) throws TurnException {
+        for (int i = 0, n = cards.size(); i < n; i++) {
+            playCard(cards.get(i));
+        }
+    }
+
+    /**
+     * Plays the active card while it is the only one and it is mandatory, so the
+     * player has no choice anyway.
+     *
+     * @return the number of played cards.
+     * @throws TurnException if the player cannot play a card.
+     */
+    int playForcedCards() throws TurnException {
+        PlayerData playerData = baseGame().playerData(player);
+        int played = 0;
+        while (!finished) {
+            List<ActionCard> activeCards = playerData.getActiveCards();
+            if (activeCards.size() != 1 || !activeCards.get(0).getType().isMandatory()) {
+                break;
+            }
+            playCard(activeCards.get(0));
+            played++;
+        }
+        LOG.debug("{} forced cards played", played);
+        return played;
+    }
+
     boolean isFinished() {
         return finished;
     }
 
+    /**
+     * Returns the turn snapshot. It is rebuilt only when any of its parts has
+     * changed since the last call.
+     */
     TurnInfo getTurnInfo() {
-        return TurnInfo.builder()
-                .turnNumber(turnNumber)
-                .stepNumber(steps)
-                .playerInfo(baseGame().getPlayerInfo(player))
-                .activeCards(baseGame().getActiveCards(player))
-                .usedCards(usedCards)
-                .isFinished(finished)
-                .build();
+        PlayerInfo playerInfo = baseGame().getPlayerInfo(player);
+        List<ActionCard> activeCards = baseGame().getActiveCards(player);
+        if (usedCardsSnapshot == null) {
+            usedCardsSnapshot = ImmutableList.copyOf(usedCards);
+        }
+        TurnInfo info = turnInfo;
+        if (info == null
+                || info.getStepNumber() != steps
+                || info.isFinished() != finished
+                || info.getPlayerInfo() != playerInfo
+                || info.getActiveCards() != activeCards
+                || info.getUsedCards() != usedCardsSnapshot) {
+            info = TurnInfo.builder()
+                    .turnNumber(turnNumber)
+                    .stepNumber(steps)
+                    .playerInfo(playerInfo)
+                    .activeCards(activeCards)
+                    .usedCards(usedCardsSnapshot)
+                    .isFinished(finished)
+                    .build();
+            turnInfo = info;
+        }
+        return info;
     }
 
     List<Player> getPlayers() {
@@ -209,15 +335,13 @@ public abstract class BaseTurn {
 
     void endTurn() throws TurnException {
         checkFinished();
-        LOG.info("End turn for {}", player);
-        LOG.info("Used cards: {}",
-                usedCards.stream().map(ActionCard::getName).collect(Collectors.toList()));
+        baseGame().events().turnEnded(player, usedCards);
         try {
             baseGame().finishTurn(turn);
         } catch (GameException e) {
             throw new UnexpectedErrorException("Error finishing turn", e);
         }
-        finished = true;
+        markFinished();
     }
 
 }
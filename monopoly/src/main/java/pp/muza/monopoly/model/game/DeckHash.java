@@ -0,0 +1,91 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.List;
+
+import pp.muza.monopoly.model.Fortune;
+
+/**
+ * Hash of the fortune deck, which depends on the order of the cards.
+ * <p>
+ * The hash is the sum of the keys of the cards, the i-th card from the top
+ * multiplied by P<sup>i</sup>, modulo 2<sup>64</sup>. P is odd and so has an
+ * inverse, which lets taking the top card, returning a card to the bottom and
+ * reverting both cost a few multiplications. Other changes of the order rehash
+ * the deck, which is linear like finding the card in the list.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class DeckHash {
+
+    private static final long P = 0x9e3779b97f4a7c15L;
+    private static final long P_INVERSE = inverse(P);
+
+    private long value;
+    /**
+     * P to the power of the number of cards.
+     */
+    private long power = 1;
+
+    /**
+     * Returns the hash of the deck, computed from scratch.
+     *
+     * @param deck the fortune cards, in the order they are taken.
+     * @return the hash.
+     */
+    static long of(List<Fortune> deck) {
+        DeckHash hash = new DeckHash();
+        hash.set(deck);
+        return hash.get();
+    }
+
+    private static long inverse(long odd) {
+        // Newton's iteration doubles the number of correct low bits: 3, 6, ... 96
+        long x = odd;
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - odd * x;
+        }
+        return x;
+    }
+
+    private static long key(Fortune fortune) {
+        return StateHash.key(StateHash.DECK, fortune.getChance().ordinal(), 0);
+    }
+
+    long get() {
+        return value;
+    }
+
+    void set(DeckHash other) {
+        value = other.value;
+        power = other.power;
+    }
+
+    void set(List<Fortune> deck) {
+        value = 0;
+        power = 1;
+        for (Fortune fortune : deck) {
+            addLast(fortune);
+        }
+    }
+
+    void removeFirst(Fortune fortune) {
+        value = (value - key(fortune)) * P_INVERSE;
+        power *= P_INVERSE;
+    }
+
+    void addFirst(Fortune fortune) {
+        value = value * P + key(fortune);
+        power *= P;
+    }
+
+    void addLast(Fortune fortune) {
+        value += key(fortune) * power;
+        power *= P;
+    }
+
+    void removeLast(Fortune fortune) {
+        power *= P_INVERSE;
+        value -= key(fortune) * power;
+    }
+}
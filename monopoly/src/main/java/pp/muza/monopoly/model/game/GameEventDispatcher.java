@@ -0,0 +1,105 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.GameEventListener;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+
+/**
+ * Forwards the game's events to the registered listeners.
+ * With no listeners every event is a no-op.
+ *
+ * @author dmytromuza
+ */
+final class GameEventDispatcher implements GameEventListener {
+
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    void add(GameEventListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener is null");
+        }
+        listeners.add(listener);
+    }
+
+    void remove(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    @Override
+    public void turnStarted(Player player, int turnNumber, List<ActionCard> cards) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnStarted(player, turnNumber, cards);
+        }
+    }
+
+    @Override
+    public void cardPlayed(Player player, ActionCard card) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cardPlayed(player, card);
+        }
+    }
+
+    @Override
+    public void cardsSpawned(Player player, ActionCard card, List<ActionCard> cards) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cardsSpawned(player, card, cards);
+        }
+    }
+
+    @Override
+    public void turnEnded(Player player, List<ActionCard> usedCards) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnEnded(player, usedCards);
+        }
+    }
+
+    @Override
+    public void turnHeld(Player player, List<ActionCard> cards) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnHeld(player, cards);
+        }
+    }
+
+    @Override
+    public void turnFinished(Player player, List<ActionCard> mandatoryCards) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnFinished(player, mandatoryCards);
+        }
+    }
+
+    @Override
+    public void moved(Player player, int from, int to) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).moved(player, from, to);
+        }
+    }
+
+    @Override
+    public void paid(Player player, int value, int balance) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).paid(player, value, balance);
+        }
+    }
+
+    @Override
+    public void received(Player player, int value, int balance) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).received(player, value, balance);
+        }
+    }
+
+    @Override
+    public void statusChanged(Player player, PlayerStatus from, PlayerStatus to) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).statusChanged(player, from, to);
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package pp.muza.monopoly.model.game;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +12,7 @@ import pp.muza.stuff.IndexedEntry;
 import pp.muza.monopoly.errors.BankException;
 import pp.muza.monopoly.errors.GameError;
 import pp.muza.monopoly.errors.GameException;
-import pp.muza.monopoly.errors.UnexpectedErrorException;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.Asset;
 import pp.muza.monopoly.model.Biding;
@@ -27,9 +24,10 @@ import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.PlayerStatus;
 import pp.muza.monopoly.model.Property;
 import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.Turn;
 import pp.muza.monopoly.model.pieces.actions.Action;
-import pp.muza.monopoly.model.pieces.lands.Jail;
 import pp.muza.monopoly.model.pieces.lands.LandType;
 
 /**
@@ -63,10 +61,7 @@ public class GameImpl implements Game {
 
     @Override
     public int getJailPosition() {
-        return IntStream.range(0, baseGame.getBoard().getLands().size())
-                .filter(i -> baseGame.getBoard().getLands().get(i).getType() == LandType.JAIL)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No jail found"));
+        return baseGame.getBoard().getJailPosition();
     }
 
     @Override
@@ -92,8 +87,34 @@ public class GameImpl implements Game {
         return lands;
     }
 
+    @Override
+    public Transition advance(Player player, int distance) throws GameException {
+        checkPlayerInGame(player);
+        PlayerData playerData = baseGame.playerData(player);
+        Transition transition = baseGame.getBoard().getTransition(playerData.getPosition(), distance);
+        playerData.setPosition(transition.getTo());
+        return transition;
+    }
+
+    @Override
+    public Transition advanceTo(Player player, int position) throws GameException {
+        checkPlayerInGame(player);
+        PlayerData playerData = baseGame.playerData(player);
+        Transition transition = baseGame.getBoard().getTransitionTo(playerData.getPosition(), position);
+        playerData.setPosition(position);
+        return transition;
+    }
+
     @Override
     public void buyProperty(Player player, int position) throws GameException, BankException {
+        Result result = tryBuyProperty(player, position);
+        if (!result.isOk()) {
+            throw new BankException(result.getError());
+        }
+    }
+
+    @Override
+    public Result tryBuyProperty(Player player, int position) throws GameException {
         checkPlayerInGame(player);
         checkLandIsProperty(position);
         Property property = (Property) getLand(position);
@@ -101,8 +122,11 @@ public class GameImpl implements Game {
         if (getPropertyOwner(position) != null) {
             throw new GameException(GameError.LAND_IS_ALREADY_OWNED);
         }
-        baseGame.getBank().withdraw(player, price);
-        baseGame.setPropertyOwner(position, player);
+        Result result = baseGame.getBank().tryWithdraw(player, price);
+        if (result.isOk()) {
+            baseGame.setPropertyOwner(position, player);
+        }
+        return result;
     }
 
     @Override
@@ -131,33 +155,12 @@ public class GameImpl implements Game {
 
     @Override
     public int findProperty(Asset asset) {
-        for (int i = 0; i < baseGame.getBoard().getLands().size(); i++) {
-            Land land = baseGame.getBoard().getLands().get(i);
-            if (land.getType() == LandType.PROPERTY) {
-                assert land instanceof Property;
-                Property property = (Property) land;
-                if (property.getAsset() == asset) {
-                    return i;
-                }
-            }
-        }
-        throw new NoSuchElementException("No land found with name " + asset);
+        return baseGame.getBoard().getPosition(asset);
     }
 
     @Override
     public List<Integer> findLandsByColor(PropertyColor color) {
-        List<Integer> lands = new ArrayList<>();
-        for (int i = 0; i < baseGame.getBoard().getLands().size(); i++) {
-            Land land = baseGame.getBoard().getLands().get(i);
-            if (land.getType() == LandType.PROPERTY) {
-                assert land instanceof Property;
-                Property property = (Property) land;
-                if (property.getColor() == color) {
-                    lands.add(i);
-                }
-            }
-        }
-        return lands;
+        return baseGame.getBoard().getPositions(color);
     }
 
     @Override
@@ -178,11 +181,9 @@ public class GameImpl implements Game {
             throw new GameException(GameError.YOU_CAN_T_TRADE_WITH_YOURSELF);
         }
         int price = property.getPrice();
-        baseGame.getBank().withdraw(buyer, price);
-        try {
-            baseGame.getBank().deposit(seller, price);
-        } catch (BankException e) {
-            throw new UnexpectedErrorException("Error while depositing money to seller " + seller, e);
+        Result result = baseGame.getBank().transfer(buyer, seller, price);
+        if (!result.isOk()) {
+            throw new BankException(result.getError());
         }
         baseGame.setPropertyOwner(position, buyer);
     }
@@ -191,16 +192,14 @@ public class GameImpl implements Game {
     public int getRent(int position) {
         int rent;
         Property property = (Property) getLand(position);
-        Player owner = getPropertyOwner(position);
-        if (owner == null) {
+        OwnershipIndex ownership = baseGame.getOwnership();
+        int ownerIndex = ownership.getOwner(position);
+        if (ownerIndex == OwnershipIndex.NO_OWNER) {
             rent = 0;
             LOG.info("Land {} is not owned", position);
         } else {
-            List<Integer> sameColorLands = findLandsByColor(property.getColor());
-            boolean sameColor = sameColorLands.stream()
-                    .map(this::getPropertyOwner)
-                    .allMatch(x -> x == owner);
-            if (sameColor) {
+            Player owner = baseGame.getPlayers().get(ownerIndex);
+            if (ownership.ownsColor(ownerIndex, property.getColor())) {
                 // double rent if the player owns all properties of the same color
                 rent = property.getPrice() * 2;
                 LOG.info("Player {} owns all properties of the same color {}, so the owner gets double rent: {}", owner, property.getColor(), rent);
@@ -239,18 +238,13 @@ public class GameImpl implements Game {
 
     @Override
     public int getJailFine() {
-        return baseGame.getBoard().getLands().stream()
-                .filter(land -> land.getType() == LandType.JAIL)
-                .map(x -> ((Jail) x).getFine())
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No jail found"));
+        return baseGame.getBoard().getJailFine();
     }
 
     @Override
     public List<IndexedEntry<Property>> getProperties(Player player) {
-        return baseGame.belongings(player).stream()
-                .map(x -> new IndexedEntry<>(x, (Property) baseGame.getBoard().getLand(x)))
-                .collect(Collectors.toUnmodifiableList());
+        int index = baseGame.indexOf(player);
+        return index < 0 ? List.of() : baseGame.getOwnership().properties(index);
     }
 
     @Override
@@ -260,23 +254,18 @@ public class GameImpl implements Game {
 
     @Override
     public List<IndexedEntry<Property>> getAllProperties() {
-        List<Land> lands = baseGame.getBoard().getLands();
-        List<IndexedEntry<Property>> properties = new ArrayList<>();
-        for (int i = 0; i < lands.size(); i++) {
-            Land land = lands.get(i);
-            if (land.getType() == LandType.PROPERTY) {
-                Property property = (Property) land;
-                properties.add(new IndexedEntry<>(i, property));
-            }
-        }
-        return properties;
+        return baseGame.getBoard().getProperties();
     }
 
     @Override
     public List<IndexedEntry<Property>> getFreeProperties() {
-        return getAllProperties().stream()
-                .filter(x -> getPropertyOwner(x.getIndex()) == null)
-                .collect(Collectors.toList());
+        return baseGame.getOwnership().freeProperties();
+    }
+
+    @Override
+    public List<IndexedEntry<Property>> getNotOwnedProperties(Player player) {
+        int index = baseGame.indexOf(player);
+        return index < 0 ? getAllProperties() : baseGame.getOwnership().notOwnedBy(index);
     }
 
     @Override
@@ -284,6 +273,11 @@ public class GameImpl implements Game {
         baseGame.getBank().withdraw(player, value);
     }
 
+    @Override
+    public Result tryWithdraw(Player player, int value) {
+        return baseGame.getBank().tryWithdraw(player, value);
+    }
+
     @Override
     public List<Player> getPlayers() {
         return baseGame.getPlayers();
@@ -314,8 +308,7 @@ public class GameImpl implements Game {
     @Override
     public Biding endAuction(Player player, int position) throws GameException {
         PlayerData playerData = baseGame.playerData(player);
-        List<ActionCard> bidings = playerData.getCards().stream()
-                .filter(c -> c.getAction() == Action.SUBMIT)
+        List<ActionCard> bidings = playerData.getCards(Action.SUBMIT).stream()
                 .filter(d -> ((Biding) d).getPosition() == position)
                 .collect(Collectors.toList());
         baseGame.playerData(player).removeCards(bidings);
@@ -347,9 +340,19 @@ public class GameImpl implements Game {
 
     @Override
     public void doBid(Player bidder, int position, int price) throws GameException, BankException {
+        Result result = tryBid(bidder, position, price);
+        if (result.getError() == GameError.NOT_ENOUGH_COINS) {
+            throw new BankException(result.getError());
+        } else if (!result.isOk()) {
+            throw new GameException(result.getError());
+        }
+    }
+
+    @Override
+    public Result tryBid(Player bidder, int position, int price) {
         Player seller = getPropertyOwner(position);
         if (seller == null) {
-            throw new GameException(GameError.LAND_IS_NOT_OWNED);
+            return Result.of(GameError.LAND_IS_NOT_OWNED);
         }
         List<ActionCard> cards = baseGame.playerData(seller).getCards();
         Offer auction = cards.stream()
@@ -359,15 +362,15 @@ public class GameImpl implements Game {
                 .findFirst().orElse(null);
         if (auction == null) {
             LOG.error("Player {} is trying to bid on property {} which is not on auction", bidder, position);
-            throw new GameException(GameError.AUCTION_IS_NOT_IN_PROGRESS);
+            return Result.of(GameError.AUCTION_IS_NOT_IN_PROGRESS);
         }
         if (bidder.equals(seller)) {
             LOG.error("Player {} is trying to bid on his own property", bidder);
-            throw new GameException(GameError.SELLER_CANT_BID);
+            return Result.of(GameError.SELLER_CANT_BID);
         }
         if (price > getBalance(bidder)) {
             LOG.error("Player {} doesn't have enough money to bid", bidder);
-            throw new BankException(GameError.NOT_ENOUGH_COINS);
+            return Result.of(GameError.NOT_ENOUGH_COINS);
         }
         List<Biding> bidings = cards.stream()
                 .filter(c -> c.getAction() == Action.SUBMIT)
@@ -378,15 +381,16 @@ public class GameImpl implements Game {
         if (bidings.isEmpty()) {
             if (price < auction.getPrice()) {
                 LOG.error("Player {} is trying to bid on property {} with price {} which is lower than auction price {}", bidder, position, price, auction.getPrice());
-                throw new GameException(GameError.BID_MUST_BE_GREATER_THAN_THE_CURRENT_PRICE);
+                return Result.of(GameError.BID_MUST_BE_GREATER_THAN_THE_CURRENT_PRICE);
             }
         } else {
             Biding maxBiding = bidings.stream().max(Comparator.comparingInt(Biding::getPrice)).orElseThrow(() -> new IllegalStateException("No biding found"));
             if (price <= maxBiding.getPrice()) {
                 LOG.error("Player {} is trying to bid on property {} with price {} which is lower than max biding price {}", bidder, position, price, maxBiding.getPrice());
-                throw new GameException(GameError.BID_MUST_BE_GREATER_THAN_THE_CURRENT_PRICE);
+                return Result.of(GameError.BID_MUST_BE_GREATER_THAN_THE_CURRENT_PRICE);
             }
         }
+        return Result.OK;
     }
 
     @Override
@@ -403,17 +407,20 @@ public class GameImpl implements Game {
         }
         Property property = (Property) baseGame.getBoard().getLand(position);
         assert property != null;
-        baseGame.getBank().withdraw(buyer, price);
-        baseGame.setPropertyOwner(position, buyer);
-        try {
-            baseGame.getBank().deposit(seller, price);
-        } catch (BankException e) {
-            throw new UnexpectedErrorException("Can't deposit money to seller " + seller, e);
+        Result result = baseGame.getBank().transfer(buyer, seller, price);
+        if (!result.isOk()) {
+            throw new BankException(result.getError());
         }
+        baseGame.setPropertyOwner(position, buyer);
     }
 
     @Override
     public int getBalance(Player player) {
         return baseGame.getBank().getBalance(player);
     }
+
+    @Override
+    public RandomSource getRandom() {
+        return baseGame.getRandom();
+    }
 }
@@ -0,0 +1,48 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import pp.muza.monopoly.model.Player;
+
+/**
+ * A pool of games for batch runs, so that a new game reuses the objects of a
+ * finished one instead of allocating them.
+ * <p>
+ * Pooled games reuse their turn objects, see {@link Monopoly#setReuseTurns(boolean)}.
+ * The pool is thread-safe, a game must be used by one thread at a time.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class GamePool {
+
+    private final ConcurrentLinkedDeque<Monopoly> games = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Returns a new game, taken from the pool if there is one.
+     *
+     * @param seed    the seed of the game's random source.
+     * @param players the players.
+     * @return the game, not started yet.
+     */
+    public Monopoly acquire(long seed, List<Player> players) {
+        Monopoly game = games.pollFirst();
+        if (game == null) {
+            game = new Monopoly(players, seed);
+            game.setReuseTurns(true);
+        } else {
+            game.reset(seed, players);
+        }
+        return game;
+    }
+
+    /**
+     * Returns the game to the pool. The game must not be used after that.
+     *
+     * @param game the game.
+     */
+    public void release(Monopoly game) {
+        games.offerFirst(game);
+    }
+}
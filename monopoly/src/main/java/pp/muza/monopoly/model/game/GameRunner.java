@@ -0,0 +1,215 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pp.muza.monopoly.consts.Constants;
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.GameEventListener;
+import pp.muza.monopoly.model.PlayGame;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.Strategy;
+
+/**
+ * Plays a game from start to end, asking every player's strategy for the cards to
+ * play.
+ * <ul>
+ *     <li>The strategy is looked up once per turn, not once per step.</li>
+ *     <li>The number of players still in the game is kept up to date from the
+ *     game's events instead of being recounted on every step.</li>
+ *     <li>The game stops when a single player is left, when the turn number
+ *     exceeds the limit, or when the stop condition is met after a turn.</li>
+ * </ul>
+ * A runner plays a single game and is not thread-safe.
+ *
+ * @author dmytromuza
+ */
+public final class GameRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameRunner.class);
+
+    private final PlayGame game;
+    private final List<Player> players;
+    private final Strategy[] strategies;
+    private final List<TurnCollector> collectors = new ArrayList<>();
+    private int maxTurns = Constants.DEFAULT_MAX_TURNS;
+    private boolean autoplay;
+    private Predicate<PlayGame> stopCondition = game -> false;
+    private int playersInGame;
+
+    /**
+     * Creates a runner for a game, which is not started yet.
+     *
+     * @param game       the game.
+     * @param strategies the strategy of every player of the game.
+     */
+    public GameRunner(PlayGame game, Map<Player, Strategy> strategies) {
+        this.game = game;
+        this.players = game.getPlayers();
+        this.strategies = new Strategy[players.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            Strategy strategy = strategies.get(players.get(seat));
+            if (strategy == null) {
+                throw new IllegalArgumentException("No strategy for " + players.get(seat));
+            }
+            this.strategies[seat] = strategy;
+        }
+    }
+
+    /**
+     * Sets the number of turns after which the game is stopped.
+     *
+     * @param maxTurns the number of turns.
+     * @return this runner.
+     */
+    public GameRunner maxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+
+    /**
+     * Lets the engine play the forced cards, see {@link PlayTurn#playForcedCards()}.
+     * Strategies are then asked only when there is a real choice.
+     *
+     * @param autoplay true to play the forced cards.
+     * @return this runner.
+     */
+    public GameRunner autoplay(boolean autoplay) {
+        this.autoplay = autoplay;
+        return this;
+    }
+
+    /**
+     * Sets the condition checked after every finished turn; the game is stopped
+     * when it is met.
+     *
+     * @param stopCondition the condition.
+     * @return this runner.
+     */
+    public GameRunner stopWhen(Predicate<PlayGame> stopCondition) {
+        this.stopCondition = stopCondition;
+        return this;
+    }
+
+    /**
+     * Adds a collector called after every finished turn.
+     *
+     * @param collector the collector.
+     * @return this runner.
+     */
+    public GameRunner addTurnCollector(TurnCollector collector) {
+        collectors.add(collector);
+        return this;
+    }
+
+    /**
+     * Starts the game, unless it is already in progress, e.g. a fork, and plays it
+     * until one of the stop conditions.
+     *
+     * @return the number of finished turns.
+     * @throws GameException if the game cannot be started.
+     * @throws TurnException if a strategy plays a card that cannot be played.
+     */
+    public int run() throws GameException, TurnException {
+        if (!game.isGameInProgress()) {
+            game.start();
+        }
+        playersInGame = 0;
+        for (Player player : players) {
+            if (!game.getPlayerStatus(player).isFinal()) {
+                playersInGame++;
+            }
+        }
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void statusChanged(Player player, PlayerStatus from, PlayerStatus to) {
+                boolean wasInGame = from != null && !from.isFinal();
+                if (wasInGame != !to.isFinal()) {
+                    playersInGame += wasInGame ? -1 : 1;
+                }
+            }
+        };
+        game.addEventListener(listener);
+        try {
+            return play();
+        } finally {
+            game.removeEventListener(listener);
+        }
+    }
+
+    private int play() throws GameException, TurnException {
+        Board board = game.getBoard();
+        int turns = 0;
+        boolean stop = false;
+        while (!stop && playersInGame > 1) {
+            PlayTurn turn = game.getTurn();
+            Strategy strategy = strategies[players.indexOf(turn.getPlayer())];
+            RandomSource random = turn.getRandom();
+            while (!turn.isFinished()) {
+                if (autoplay) {
+                    turn.playForcedCards();
+                }
+                if (!turn.isFinished()) {
+                    ActionCard card = strategy.playTurn(board, players, turn.getTurnInfo(), random);
+                    if (card != null) {
+                        turn.playCard(card);
+                    } else {
+                        turn.endTurn();
+                    }
+                }
+                if (game.getTurnNumber() > maxTurns) {
+                    LOG.debug("The game is stopped after {} turns", maxTurns);
+                    stop = true;
+                    break;
+                }
+            }
+            if (turn.isFinished()) {
+                turns++;
+                if (!collectors.isEmpty()) {
+                    TurnInfo turnInfo = turn.getTurnInfo();
+                    for (int i = 0; i < collectors.size(); i++) {
+                        collectors.get(i).collect(game, turnInfo);
+                    }
+                }
+                stop |= stopCondition.test(game);
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Returns the number of players still in the game.
+     *
+     * @return the number of players.
+     */
+    public int getPlayersInGame() {
+        return playersInGame;
+    }
+
+    /**
+     * Receives every finished turn.
+     */
+    @FunctionalInterface
+    public interface TurnCollector {
+
+        /**
+         * Called after the turn is finished.
+         *
+         * @param game     the game.
+         * @param turnInfo the snapshot of the finished turn.
+         */
+        void collect(PlayGame game, TurnInfo turnInfo);
+    }
+}
@@ -0,0 +1,462 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.pieces.actions.Action;
+import pp.muza.monopoly.model.pieces.actions.BaseActionCard;
+
+/**
+ * The cards of a player's hand.
+ * <ul>
+ *     <li>Cards are kept in the order they were added; adding an equal card
+ *     renews it and moves it to the end.</li>
+ *     <li>Held cards are marked in a bitmap parallel to the cards.</li>
+ *     <li>Cards are counted by {@link Action} and {@link ActionType}.</li>
+ *     <li>The current priority, the active cards and the snapshot of the hand
+ *     are cached until the hand changes.</li>
+ * </ul>
+ *
+ * @author dmytromuza
+ */
+final class Hand {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int NO_PRIORITY = Integer.MIN_VALUE;
+
+    private ActionCard[] cards;
+    private int size;
+    private final BitSet held;
+    private final int[] countByAction;
+    private final int[] countByType;
+    private int mandatoryCount;
+
+    private int priority = NO_PRIORITY;
+    private List<ActionCard> active;
+    private List<ActionCard> snapshot;
+
+    private final UndoLog undoLog;
+    private final StateHash stateHash;
+    private final int owner;
+
+    Hand() {
+        this(new UndoLog(), new StateHash(), 0);
+    }
+
+    /**
+     * Creates an empty hand, which records its changes to the log and the hash.
+     *
+     * @param undoLog   the game's undo log.
+     * @param stateHash the game's state hash.
+     * @param owner     the index of the player.
+     */
+    Hand(UndoLog undoLog, StateHash stateHash, int owner) {
+        this.undoLog = undoLog;
+        this.stateHash = stateHash;
+        this.owner = owner;
+        this.cards = new ActionCard[INITIAL_CAPACITY];
+        this.held = new BitSet(INITIAL_CAPACITY);
+        this.countByAction = new int[Action.values().length];
+        this.countByType = new int[ActionType.values().length];
+    }
+
+    /**
+     * Creates a copy of the hand. The cards are immutable and shared, as are the
+     * cached lists.
+     *
+     * @param other     the hand to copy.
+     * @param undoLog   the undo log of the copy.
+     * @param stateHash the state hash of the copy.
+     */
+    Hand(Hand other, UndoLog undoLog, StateHash stateHash) {
+        this.undoLog = undoLog;
+        this.stateHash = stateHash;
+        this.owner = other.owner;
+        this.cards = Arrays.copyOf(other.cards, Math.max(other.size, INITIAL_CAPACITY));
+        this.size = other.size;
+        this.held = (BitSet) other.held.clone();
+        this.countByAction = other.countByAction.clone();
+        this.countByType = other.countByType.clone();
+        this.mandatoryCount = other.mandatoryCount;
+        this.priority = other.priority;
+        this.active = other.active;
+        this.snapshot = other.snapshot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the cards in the order they were added.
+     *
+     * @return an immutable snapshot of the hand.
+     */
+    List<ActionCard> getCards() {
+        if (snapshot == null) {
+            snapshot = ImmutableList.copyOf(Arrays.asList(cards).subList(0, size));
+        }
+        return snapshot;
+    }
+
+    int count(Action action) {
+        return countByAction[action.ordinal()];
+    }
+
+    int count(ActionType type) {
+        return countByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the mandatory cards, held or not, in the order they were added.
+     *
+     * @return a new mutable list.
+     */
+    List<ActionCard> getMandatoryCards() {
+        List<ActionCard> result = new ArrayList<>(mandatoryCount);
+        for (int i = 0; i < size && result.size() < mandatoryCount; i++) {
+            if (cards[i].getType().isMandatory()) {
+                result.add(cards[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cards with the given action in the order they were added.
+     *
+     * @param action the action.
+     * @return a new mutable list.
+     */
+    List<ActionCard> getCards(Action action) {
+        int count = count(action);
+        List<ActionCard> result = new ArrayList<>(count);
+        for (int i = 0; i < size && result.size() < count; i++) {
+            if (cards[i].getAction() == action) {
+                result.add(cards[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the card in the hand equal to the given one.
+     *
+     * @param card the card to look for.
+     * @return the card in the hand or null if there is no such card.
+     */
+    ActionCard get(ActionCard card) {
+        int i = indexOf(card);
+        return i < 0 ? null : cards[i];
+    }
+
+    boolean contains(ActionCard card) {
+        return indexOf(card) >= 0;
+    }
+
+    boolean isHeld(ActionCard card) {
+        int i = indexOf(card);
+        return i >= 0 && held.get(i);
+    }
+
+    /**
+     * Returns the lowest priority among not held mandatory cards, or among not held
+     * optional cards if there are no mandatory ones.
+     *
+     * @return the current priority.
+     */
+    int getPriority() {
+        if (priority == NO_PRIORITY) {
+            boolean seenMandatory = false;
+            boolean seenOptional = false;
+            int mandatory = 0;
+            int optional = 0;
+            for (int i = held.nextClearBit(0); i < size; i = held.nextClearBit(i + 1)) {
+                ActionCard card = cards[i];
+                int p = card.getPriority();
+                if (card.getType().isMandatory()) {
+                    if (!seenMandatory || p < mandatory) {
+                        seenMandatory = true;
+                        mandatory = p;
+                    }
+                } else if (!seenOptional || p < optional) {
+                    seenOptional = true;
+                    optional = p;
+                }
+            }
+            priority = seenMandatory ? mandatory : (seenOptional ? optional : BaseActionCard.LOW_PRIORITY);
+        }
+        return priority;
+    }
+
+    /**
+     * Returns the not held cards with priority not greater than the current one,
+     * ordered by priority and then by the order they were added.
+     *
+     * @return an immutable list of the active cards.
+     */
+    List<ActionCard> getActiveCards() {
+        if (active == null) {
+            int current = getPriority();
+            ActionCard[] result = new ActionCard[size];
+            int n = 0;
+            for (int i = held.nextClearBit(0); i < size; i = held.nextClearBit(i + 1)) {
+                ActionCard card = cards[i];
+                int p = card.getPriority();
+                if (p <= current) {
+                    // insertion sort, stable and cheap for a hand
+                    int j = n++;
+                    while (j > 0 && result[j - 1].getPriority() > p) {
+                        result[j] = result[j - 1];
+                        j--;
+                    }
+                    result[j] = card;
+                }
+            }
+            active = ImmutableList.copyOf(Arrays.asList(result).subList(0, n));
+        }
+        return active;
+    }
+
+    /**
+     * Adds the card to the end of the hand. An equal card already in the hand is
+     * replaced and released from hold.
+     *
+     * @param card the card to add.
+     * @return false if an equal card was already in the hand and not held.
+     */
+    boolean add(ActionCard card) {
+        boolean result = true;
+        int i = indexOf(card);
+        if (i >= 0) {
+            result = held.get(i);
+            removeAt(i);
+        }
+        append(card);
+        undoLog.record(UndoLog.HAND_ADD, owner, 0, null);
+        stateHash.toggle(StateHash.CARD, owner, card.stateKey());
+        changed();
+        return result;
+    }
+
+    /**
+     * Removes the card equal to the given one.
+     *
+     * @param card the card to remove.
+     * @return the removed card or null if there is no such card.
+     */
+    ActionCard remove(ActionCard card) {
+        int i = indexOf(card);
+        if (i < 0) {
+            return null;
+        }
+        ActionCard result = cards[i];
+        removeAt(i);
+        changed();
+        return result;
+    }
+
+    /**
+     * Removes all cards equal to any of the given ones.
+     *
+     * @param toRemove the cards to remove.
+     * @return true if any card was removed.
+     */
+    boolean removeAll(Collection<ActionCard> toRemove) {
+        boolean result = false;
+        for (ActionCard card : toRemove) {
+            int i = indexOf(card);
+            if (i >= 0) {
+                removeAt(i);
+                result = true;
+            }
+        }
+        if (result) {
+            changed();
+        }
+        return result;
+    }
+
+    /**
+     * Holds the card equal to the given one.
+     *
+     * @param card the card to hold.
+     * @return false if there is no such card or it is already held.
+     */
+    boolean hold(ActionCard card) {
+        int i = indexOf(card);
+        if (i < 0 || held.get(i)) {
+            return false;
+        }
+        held.set(i);
+        undoLog.record(UndoLog.HAND_HOLD, owner, i, null);
+        stateHash.toggle(StateHash.HELD, owner, cards[i].stateKey());
+        changed();
+        return true;
+    }
+
+    /**
+     * Releases all held cards.
+     *
+     * @return false if there were no held cards.
+     */
+    boolean releaseAll() {
+        if (held.isEmpty()) {
+            return false;
+        }
+        for (int i = held.nextSetBit(0); i >= 0; i = held.nextSetBit(i + 1)) {
+            undoLog.record(UndoLog.HAND_RELEASE, owner, i, null);
+            stateHash.toggle(StateHash.HELD, owner, cards[i].stateKey());
+        }
+        held.clear();
+        changed();
+        return true;
+    }
+
+    List<ActionCard> getHeldCards() {
+        List<ActionCard> result = new ArrayList<>(held.cardinality());
+        for (int i = held.nextSetBit(0); i >= 0; i = held.nextSetBit(i + 1)) {
+            result.add(cards[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cards.
+     */
+    void clear() {
+        Arrays.fill(cards, 0, size, null);
+        size = 0;
+        held.clear();
+        Arrays.fill(countByAction, 0);
+        Arrays.fill(countByType, 0);
+        mandatoryCount = 0;
+        changed();
+    }
+
+    private int indexOf(ActionCard card) {
+        for (int i = 0; i < size; i++) {
+            if (cards[i] == card) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (cards[i].equals(card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the part of the state hash contributed by the hand, computed from scratch.
+     *
+     * @return the XOR of the keys of the cards.
+     */
+    long computeHash() {
+        long result = 0;
+        for (int i = 0; i < size; i++) {
+            long key = cards[i].stateKey();
+            result ^= StateHash.key(StateHash.CARD, owner, key);
+            if (held.get(i)) {
+                result ^= StateHash.key(StateHash.HELD, owner, key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the last card, undoing {@link #add}.
+     */
+    void undoAdd() {
+        ActionCard card = cards[size - 1];
+        stateHash.toggle(StateHash.CARD, owner, card.stateKey());
+        count(card, -1);
+        held.clear(size - 1);
+        cards[--size] = null;
+        changed();
+    }
+
+    /**
+     * Puts the card back at its index, undoing a removal.
+     *
+     * @param index the index of the card, with {@link UndoLog#HELD} if it was held.
+     * @param card  the card.
+     */
+    void undoRemove(int index, ActionCard card) {
+        boolean wasHeld = (index & UndoLog.HELD) != 0;
+        index &= ~UndoLog.HELD;
+        append(card);
+        System.arraycopy(cards, index, cards, index + 1, size - index - 1);
+        cards[index] = card;
+        for (int i = size - 1; i > index; i--) {
+            held.set(i, held.get(i - 1));
+        }
+        held.set(index, wasHeld);
+        long key = card.stateKey();
+        stateHash.toggle(StateHash.CARD, owner, key);
+        if (wasHeld) {
+            stateHash.toggle(StateHash.HELD, owner, key);
+        }
+        changed();
+    }
+
+    /**
+     * Sets or clears the held mark, undoing a hold or a release.
+     *
+     * @param index the index of the card.
+     * @param value true to hold the card.
+     */
+    void undoHold(int index, boolean value) {
+        held.set(index, value);
+        stateHash.toggle(StateHash.HELD, owner, cards[index].stateKey());
+        changed();
+    }
+
+    private void append(ActionCard card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        cards[size++] = card;
+        count(card, 1);
+    }
+
+    private void removeAt(int index) {
+        boolean wasHeld = held.get(index);
+        undoLog.record(UndoLog.HAND_REMOVE, owner, wasHeld ? index | UndoLog.HELD : index, cards[index]);
+        long key = cards[index].stateKey();
+        stateHash.toggle(StateHash.CARD, owner, key);
+        if (wasHeld) {
+            stateHash.toggle(StateHash.HELD, owner, key);
+        }
+        count(cards[index], -1);
+        int tail = size - index - 1;
+        System.arraycopy(cards, index + 1, cards, index, tail);
+        for (int i = index; i < size - 1; i++) {
+            held.set(i, held.get(i + 1));
+        }
+        held.clear(size - 1);
+        cards[--size] = null;
+    }
+
+    private void count(ActionCard card, int delta) {
+        countByAction[card.getAction().ordinal()] += delta;
+        countByType[card.getType().ordinal()] += delta;
+        if (card.getType().isMandatory()) {
+            mandatoryCount += delta;
+        }
+    }
+
+    private void changed() {
+        priority = NO_PRIORITY;
+        active = null;
+        snapshot = null;
+    }
+}
@@ -0,0 +1,130 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.GameEventListener;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.bank.BankImpl;
+
+/**
+ * Writes the game's events to the log.
+ * <p>
+ * Uses the loggers of the classes which emit the events, so the existing logging
+ * configuration keeps working. The listener is registered only if one of these
+ * loggers is enabled for info or debug messages.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class LoggingEventListener implements GameEventListener {
+
+    private static final Logger GAME_LOG = LoggerFactory.getLogger(BaseGame.class);
+    private static final Logger TURN_LOG = LoggerFactory.getLogger(BaseTurn.class);
+    private static final Logger PLAYER_LOG = LoggerFactory.getLogger(PlayerData.class);
+    private static final Logger BANK_LOG = LoggerFactory.getLogger(BankImpl.class);
+
+    static final LoggingEventListener INSTANCE = new LoggingEventListener();
+
+    private LoggingEventListener() {
+    }
+
+    static boolean isEnabled() {
+        return GAME_LOG.isInfoEnabled() || TURN_LOG.isInfoEnabled()
+                || PLAYER_LOG.isDebugEnabled() || BANK_LOG.isInfoEnabled();
+    }
+
+    private static List<String> names(List<ActionCard> cards) {
+        return cards.stream().map(ActionCard::getName).collect(Collectors.toList());
+    }
+
+    @Override
+    public void turnStarted(Player player, int turnNumber, List<ActionCard> cards) {
+        GAME_LOG.info("{} is starting turn {}", player, turnNumber);
+        GAME_LOG.debug("Player's cards: {} ", cards);
+    }
+
+    @Override
+    public void cardPlayed(Player player, ActionCard card) {
+        TURN_LOG.info("'{}' is being played by {}", card, player);
+    }
+
+    @Override
+    public void cardsSpawned(Player player, ActionCard card, List<ActionCard> cards) {
+        if (!TURN_LOG.isInfoEnabled()) {
+            return;
+        }
+        if (cards.size() > 0) {
+            TURN_LOG.info("Card '{}' has been played by {}, and received the following cards: {}",
+                    card, player, names(cards));
+        } else {
+            TURN_LOG.info("{} received no cards.", player);
+        }
+    }
+
+    @Override
+    public void turnEnded(Player player, List<ActionCard> usedCards) {
+        if (!TURN_LOG.isInfoEnabled()) {
+            return;
+        }
+        TURN_LOG.info("End turn for {}", player);
+        TURN_LOG.info("Used cards: {}", names(usedCards));
+    }
+
+    @Override
+    public void turnHeld(Player player, List<ActionCard> cards) {
+        GAME_LOG.debug("{} is holding turn", player);
+        if (!GAME_LOG.isInfoEnabled()) {
+            return;
+        }
+        List<String> mandatoryCards = cards.stream()
+                .filter(actionCard -> actionCard.getType().isMandatory())
+                .map(ActionCard::getName)
+                .collect(Collectors.toList());
+        if (mandatoryCards.size() > 0) {
+            GAME_LOG.info("Player {} has mandatory cards: {}", player, mandatoryCards);
+        }
+    }
+
+    @Override
+    public void turnFinished(Player player, List<ActionCard> mandatoryCards) {
+        if (mandatoryCards.size() > 0 && GAME_LOG.isInfoEnabled()) {
+            GAME_LOG.info("Player {} has mandatory cards: {}", player, names(mandatoryCards));
+        }
+    }
+
+    @Override
+    public void moved(Player player, int from, int to) {
+        if (from != to) {
+            PLAYER_LOG.info("{} is moving from position {} to position {}", player, from, to);
+        } else {
+            PLAYER_LOG.info("{} at position {}", player, to);
+        }
+    }
+
+    @Override
+    public void paid(Player player, int value, int balance) {
+        BANK_LOG.info("Withdrawing {} coin(s) from player {}", value, player);
+        BANK_LOG.info("{} has {} coin(s)", player, balance);
+    }
+
+    @Override
+    public void received(Player player, int value, int balance) {
+        BANK_LOG.info("Adding {} coins to {}", value, player);
+        BANK_LOG.info("{} has {} coin(s)", player, balance);
+    }
+
+    @Override
+    public void statusChanged(Player player, PlayerStatus from, PlayerStatus to) {
+        if (from == null) {
+            PLAYER_LOG.debug("{}: set status to {}", player, to);
+        } else {
+            PLAYER_LOG.info("{}: changing status from {} to {}", player, from, to);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package pp.muza.monopoly.model.game;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -12,11 +11,15 @@ import pp.muza.monopoly.model.Board;
 import pp.muza.monopoly.model.BoardLayout;
 import pp.muza.monopoly.model.ChancePile;
 import pp.muza.monopoly.model.Fortune;
+import pp.muza.monopoly.model.GameEventListener;
 import pp.muza.monopoly.model.PlayGame;
 import pp.muza.monopoly.model.PlayTurn;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.PlayerStatus;
-import pp.muza.monopoly.model.bank.BankImpl;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.bank.BankAudit;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
 
 /**
  * Monopoly game implementation. Implements the {@link PlayGame} interface.
@@ -28,21 +31,164 @@ public class Monopoly implements PlayGame {
     final BaseGame baseGame;
 
     public Monopoly(GameInfo gameInfo) {
-        this.baseGame = new BaseGame(gameInfo) {
+        this(gameInfo, new RandomSourceImpl());
+    }
+
+    public Monopoly(GameInfo gameInfo, RandomSource random) {
+        this.baseGame = new BaseGame(gameInfo, random) {
         };
     }
 
     public Monopoly(List<Player> players) {
+        this(players, new RandomSourceImpl());
+    }
+
+    /**
+     * Creates a new game, which is fully determined by the seed and the players' choices.
+     *
+     * @param players the players.
+     * @param seed    the seed of the game's random source.
+     */
+    public Monopoly(List<Player> players, long seed) {
+        this(players, new RandomSourceImpl(seed));
+    }
+
+    public Monopoly(List<Player> players, RandomSource random) {
         List<Fortune> fortunes = ChancePile.defaultPile();
-        Collections.shuffle(fortunes);
+        random.shuffle(fortunes);
         baseGame = new BaseGame(
-                new BankImpl(),
                 BoardLayout.defaultBoard(),
                 fortunes,
-                players) {
+                players,
+                random) {
         };
     }
 
+    private Monopoly(BaseGame baseGame) {
+        this.baseGame = baseGame;
+    }
+
+    /**
+     * Returns an independent copy of the game in its current state, e.g. to play it
+     * forward in a search. The copy shares the board and the cards with this game,
+     * continues its random sequences and does not inherit the listeners. It is
+     * safe to play the copy on another thread once this method returns.
+     *
+     * @return the copy.
+     */
+    public Monopoly fork() {
+        return new Monopoly(baseGame.fork());
+    }
+
+    /**
+     * Returns an independent copy of the game in its current state, like {@link #fork()},
+     * whose dice and fortune picks are drawn from a new random source, so that copies
+     * made with different seeds play out differently.
+     *
+     * @param seed the seed of the copy's random source.
+     * @return the copy.
+     */
+    public Monopoly fork(long seed) {
+        return fork(new RandomSourceImpl(seed));
+    }
+
+    /**
+     * Returns an independent copy of the game in its current state, like {@link #fork()},
+     * which draws its dice and fortune picks from the given random source, e.g. to
+     * choose the outcome of a roll in a search.
+     *
+     * @param random the copy's random source.
+     * @return the copy.
+     */
+    public Monopoly fork(RandomSource random) {
+        return new Monopoly(baseGame.fork(random));
+    }
+
+    /**
+     * Starts recording the changes of the game, if not yet, and returns the point to
+     * return to with {@link #undo(int)}. Marks can be nested.
+     *
+     * @return the mark.
+     */
+    public int mark() {
+        return baseGame.mark();
+    }
+
+    /**
+     * Reverts the changes made since the mark, e.g. after a search has played a
+     * card and evaluated the result. The dice and the bank audit are not rewound,
+     * and the listeners are not notified.
+     *
+     * @param mark the mark returned by {@link #mark()}.
+     */
+    public void undo(int mark) {
+        baseGame.undo(mark);
+    }
+
+    /**
+     * Returns the fortune cards left in the deck, in the order they are taken.
+     *
+     * @return the unmodifiable view of the deck.
+     */
+    public List<Fortune> getFortuneCards() {
+        return baseGame.getFortuneCards();
+    }
+
+    /**
+     * Moves the first fortune card of the chance to the top of the deck, so that it
+     * is taken next, e.g. to choose the outcome of a draw in a search. The move is
+     * reverted by {@link #undo(int)}.
+     *
+     * @param chance the chance.
+     * @return false if there is no card of the chance in the deck.
+     */
+    public boolean putFortuneCardOnTop(Chance chance) {
+        return baseGame.putFortuneCardOnTop(chance);
+    }
+
+    /**
+     * Drops the recorded changes and stops recording them.
+     */
+    public void clearUndo() {
+        baseGame.clearUndo();
+    }
+
+    /**
+     * Reinitializes the game in place as a new game of the given players, which is
+     * fully determined by the seed and the players' choices. The board and the
+     * registered listeners are kept.
+     *
+     * @param seed    the seed of the game's random source.
+     * @param players the players.
+     */
+    public void reset(long seed, List<Player> players) {
+        RandomSource random = new RandomSourceImpl(seed);
+        List<Fortune> fortunes = ChancePile.defaultPile();
+        random.shuffle(fortunes);
+        baseGame.reset(fortunes, players, random);
+    }
+
+    /**
+     * Lets the game reuse one turn object for all its turns instead of allocating
+     * a new one per turn. The {@link PlayTurn} returned by {@link #getTurn()} is
+     * then valid only until the turn is finished. Off by default.
+     *
+     * @param reuseTurns true to reuse the turn object.
+     */
+    public void setReuseTurns(boolean reuseTurns) {
+        baseGame.setReuseTurns(reuseTurns);
+    }
+
+    /**
+     * Sets the trail to record the game's money movements to. The trail is kept
+     * when the game is reset.
+     *
+     * @param audit the audit trail, or null to stop recording.
+     */
+    public void setBankAudit(BankAudit audit) {
+        baseGame.setBankAudit(audit);
+    }
+
     public GameInfo getGameInfo() {
         return baseGame.getGameInfo();
     }
@@ -106,4 +252,19 @@ public class Monopoly implements PlayGame {
     public int getTurnNumber() {
         return baseGame.getTurnNumber();
     }
+
+    @Override
+    public long getStateHash() {
+        return baseGame.getStateHash();
+    }
+
+    @Override
+    public void addEventListener(GameEventListener listener) {
+        baseGame.addEventListener(listener);
+    }
+
+    @Override
+    public void removeEventListener(GameEventListener listener) {
+        baseGame.removeEventListener(listener);
+    }
 }
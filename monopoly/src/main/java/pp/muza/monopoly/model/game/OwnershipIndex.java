@@ -0,0 +1,216 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.stuff.IndexedEntry;
+
+/**
+ * Ownership of the properties, indexed by player and by color.
+ * <p>
+ * The index is updated on every change of an owner, so the queries don't scan the
+ * board. Lists returned by the queries are immutable and cached until the next
+ * change of ownership.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class OwnershipIndex {
+
+    static final int NO_OWNER = -1;
+
+    private final int[] ownerByPosition;
+    private final BitSet[] ownedBy;
+    private final BitSet free = new BitSet();
+    private final int[][] ownedByColor;
+    private final int[] colorSize;
+    private final PropertyColor[] colorByPosition;
+    private final IndexedEntry<Property>[] entryByPosition;
+
+    private final List<Integer>[] belongingsCache;
+    private final List<IndexedEntry<Property>>[] propertiesCache;
+    private List<IndexedEntry<Property>> freeCache;
+
+    @SuppressWarnings("unchecked")
+    OwnershipIndex(Board board, int players) {
+        this.ownerByPosition = new int[board.size()];
+        this.ownedBy = new BitSet[players];
+        this.ownedByColor = new int[players][PropertyColor.values().length];
+        this.colorSize = new int[PropertyColor.values().length];
+        this.colorByPosition = new PropertyColor[board.size()];
+        this.entryByPosition = new IndexedEntry[board.size()];
+        this.belongingsCache = new List[players];
+        this.propertiesCache = new List[players];
+        Arrays.fill(ownerByPosition, NO_OWNER);
+        for (int i = 0; i < players; i++) {
+            ownedBy[i] = new BitSet(board.size());
+        }
+        for (IndexedEntry<Property> entry : board.getProperties()) {
+            int position = entry.getIndex();
+            PropertyColor color = entry.getValue().getColor();
+            entryByPosition[position] = entry;
+            colorByPosition[position] = color;
+            colorSize[color.ordinal()]++;
+            free.set(position);
+        }
+    }
+
+    /**
+     * Creates a copy of the index. The board lookups and the cached lists are
+     * immutable and shared.
+     *
+     * @param other the index to copy.
+     */
+    OwnershipIndex(OwnershipIndex other) {
+        this.ownerByPosition = other.ownerByPosition.clone();
+        this.ownedBy = new BitSet[other.ownedBy.length];
+        this.ownedByColor = new int[other.ownedByColor.length][];
+        for (int i = 0; i < ownedBy.length; i++) {
+            ownedBy[i] = (BitSet) other.ownedBy[i].clone();
+            ownedByColor[i] = other.ownedByColor[i].clone();
+        }
+        this.free.or(other.free);
+        this.colorSize = other.colorSize;
+        this.colorByPosition = other.colorByPosition;
+        this.entryByPosition = other.entryByPosition;
+        this.belongingsCache = other.belongingsCache.clone();
+        this.propertiesCache = other.propertiesCache.clone();
+        this.freeCache = other.freeCache;
+    }
+
+    /**
+     * Returns the backing array of owners by position, for read-only views.
+     */
+    int[] ownerByPosition() {
+        return ownerByPosition;
+    }
+
+    int getOwner(int position) {
+        return ownerByPosition[position];
+    }
+
+    /**
+     * Sets the owner of the property.
+     *
+     * @param position the position of the property.
+     * @param owner    the index of the new owner, or {@link #NO_OWNER}.
+     * @return the index of the previous owner, or {@link #NO_OWNER}.
+     */
+    int setOwner(int position, int owner) {
+        int oldOwner = ownerByPosition[position];
+        if (oldOwner == owner) {
+            return oldOwner;
+        }
+        int color = colorByPosition[position].ordinal();
+        if (oldOwner != NO_OWNER) {
+            ownedBy[oldOwner].clear(position);
+            ownedByColor[oldOwner][color]--;
+            invalidate(oldOwner);
+        }
+        if (owner != NO_OWNER) {
+            ownedBy[owner].set(position);
+            ownedByColor[owner][color]++;
+            free.clear(position);
+            invalidate(owner);
+        } else {
+            free.set(position);
+        }
+        ownerByPosition[position] = owner;
+        freeCache = null;
+        return oldOwner;
+    }
+
+    /**
+     * Removes all owners, as in a new game.
+     */
+    void clear() {
+        Arrays.fill(ownerByPosition, NO_OWNER);
+        free.clear();
+        for (int position = 0; position < entryByPosition.length; position++) {
+            if (entryByPosition[position] != null) {
+                free.set(position);
+            }
+        }
+        for (int player = 0; player < ownedBy.length; player++) {
+            ownedBy[player].clear();
+            Arrays.fill(ownedByColor[player], 0);
+            invalidate(player);
+        }
+        freeCache = null;
+    }
+
+    private void invalidate(int player) {
+        belongingsCache[player] = null;
+        propertiesCache[player] = null;
+    }
+
+    /**
+     * Returns true if the player owns all properties of the color.
+     */
+    boolean ownsColor(int player, PropertyColor color) {
+        return ownedByColor[player][color.ordinal()] == colorSize[color.ordinal()];
+    }
+
+    int countOwned(int player) {
+        return ownedBy[player].cardinality();
+    }
+
+    List<Integer> belongings(int player) {
+        List<Integer> result = belongingsCache[player];
+        if (result == null) {
+            ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+            BitSet owned = ownedBy[player];
+            for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+                builder.add(i);
+            }
+            result = builder.build();
+            belongingsCache[player] = result;
+        }
+        return result;
+    }
+
+    List<IndexedEntry<Property>> properties(int player) {
+        List<IndexedEntry<Property>> result = propertiesCache[player];
+        if (result == null) {
+            result = entries(ownedBy[player]);
+            propertiesCache[player] = result;
+        }
+        return result;
+    }
+
+    List<IndexedEntry<Property>> freeProperties() {
+        List<IndexedEntry<Property>> result = freeCache;
+        if (result == null) {
+            result = entries(free);
+            freeCache = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the properties which are free or owned by other players.
+     */
+    List<IndexedEntry<Property>> notOwnedBy(int player) {
+        ImmutableList.Builder<IndexedEntry<Property>> builder = ImmutableList.builder();
+        for (int position = 0; position < ownerByPosition.length; position++) {
+            if (entryByPosition[position] != null && ownerByPosition[position] != player) {
+                builder.add(entryByPosition[position]);
+            }
+        }
+        return builder.build();
+    }
+
+    private List<IndexedEntry<Property>> entries(BitSet positions) {
+        ImmutableList.Builder<IndexedEntry<Property>> builder = ImmutableList.builder();
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            builder.add(entryByPosition[i]);
+        }
+        return builder.build();
+    }
+}
@@ -7,6 +7,7 @@ import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.PlayTurn;
 import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.RandomSource;
 
 /**
  * Implementation of the {@link PlayTurn} interface.
@@ -31,6 +32,16 @@ public class PlayTurnImpl implements PlayTurn {
         turn.playCard(actionCard);
     }
 
+    @Override
+    public void playCards(List<ActionCard> actionCards) throws TurnException {
+        turn.playCards(actionCards);
+    }
+
+    @Override
+    public int playForcedCards() throws TurnException {
+        return turn.playForcedCards();
+    }
+
     @Override
     public boolean isFinished() {
         return turn.isFinished();
@@ -50,4 +61,9 @@ public class PlayTurnImpl implements PlayTurn {
     public void endTurn() throws TurnException {
         turn.endTurn();
     }
+
+    @Override
+    public RandomSource getRandom() {
+        return turn.baseGame().getPlayerRandom();
+    }
 }
@@ -1,140 +1,208 @@
 package pp.muza.monopoly.model.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pp.muza.monopoly.data.PlayerInfo;
 import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.GameEventListener;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.PlayerStatus;
-import pp.muza.monopoly.model.pieces.actions.BaseActionCard;
+import pp.muza.monopoly.model.pieces.actions.Action;
 
 /**
+ * The player's hand, with the player's position and status.
+ * <p>
+ * The cards are kept in a {@link Hand}, which indexes them for the per-step queries.
+ * </p>
+ * <p>
+ * Positions and statuses of all players are kept in arrays owned by the game and
+ * indexed by the player's index; this class is a view over its own slot.
+ * </p>
+ *
  * @author dmytromuza
  */
 final class PlayerData {
 
     private static final Logger LOG = LoggerFactory.getLogger(PlayerData.class);
 
-    private final Player player;
+    private Player player;
+    private final int index;
+    private final int[] positions;
+    private final PlayerStatus[] statuses;
+    private final GameEventListener listener;
+    private final UndoLog undoLog;
+    private final StateHash stateHash;
 
-    private final List<ActionCard> cards = new ArrayList<>();
-    private final List<ActionCard> hold = new ArrayList<>();
-
-    private PlayerStatus status;
-    private int position;
+    private final Hand hand;
+    private PlayerInfo info;
 
     PlayerData(Player player) {
+        this(player, 0, new int[1], new PlayerStatus[1], GameEventListener.NONE, new UndoLog(), new StateHash());
+    }
+
+    PlayerData(Player player, int index, int[] positions, PlayerStatus[] statuses, GameEventListener listener,
+               UndoLog undoLog, StateHash stateHash) {
+        this.player = player;
+        this.index = index;
+        this.positions = positions;
+        this.statuses = statuses;
+        this.listener = listener;
+        this.undoLog = undoLog;
+        this.stateHash = stateHash;
+        this.hand = new Hand(undoLog, stateHash, index);
+    }
+
+    /**
+     * Creates a copy of the player's state for another game, whose positions and
+     * statuses are already copied to the given arrays.
+     *
+     * @param other     the state to copy.
+     * @param positions the positions of the other game.
+     * @param statuses  the statuses of the other game.
+     * @param listener  the listener of the other game.
+     * @param undoLog   the undo log of the other game.
+     * @param stateHash the state hash of the other game.
+     */
+    PlayerData(PlayerData other, int[] positions, PlayerStatus[] statuses, GameEventListener listener,
+               UndoLog undoLog, StateHash stateHash) {
+        this.player = other.player;
+        this.index = other.index;
+        this.positions = positions;
+        this.statuses = statuses;
+        this.listener = listener;
+        this.undoLog = undoLog;
+        this.stateHash = stateHash;
+        this.hand = new Hand(other.hand, undoLog, stateHash);
+        this.info = other.info;
+    }
+
+    /**
+     * Gives the slot to the player of a new game: the hand is emptied, the position
+     * and the status are cleared.
+     *
+     * @param player the player.
+     */
+    void reset(Player player) {
         this.player = player;
+        hand.clear();
+        info = null;
+        positions[index] = 0;
+        statuses[index] = null;
+    }
+
+    Hand getHand() {
+        return hand;
     }
 
     Player getPlayer() {
         return this.player;
     }
 
+    int getIndex() {
+        return this.index;
+    }
+
     PlayerStatus getStatus() {
-        return this.status;
+        return statuses[index];
     }
 
     void setStatus(PlayerStatus status) {
-        if (this.status == null) {
-            LOG.debug("{}: set status to {}", player, status);
-        } else {
-            LOG.info("{}: changing status from {} to {}", this.player, this.status, status);
-        }
-        this.status = status;
+        PlayerStatus oldStatus = statuses[index];
+        int oldOrdinal = oldStatus == null ? -1 : oldStatus.ordinal();
+        undoLog.record(UndoLog.STATUS, index, oldOrdinal, null);
+        stateHash.change(StateHash.STATUS, index, oldOrdinal, status == null ? -1 : status.ordinal());
+        statuses[index] = status;
+        listener.statusChanged(player, oldStatus, status);
     }
 
     int getPosition() {
-        return this.position;
+        return positions[index];
     }
 
     void setPosition(int position) {
-        if (this.position != position) {
-            LOG.info("{} is moving from position {} to position {}", this.player, this.position, position);
-            this.position = position;
-        } else {
-            LOG.info("{} at position {}", this.player, this.position);
-        }
+        int oldPosition = positions[index];
+        undoLog.record(UndoLog.POSITION, index, oldPosition, null);
+        stateHash.change(StateHash.POSITION, index, oldPosition, position);
+        positions[index] = position;
+        listener.moved(player, oldPosition, position);
+    }
+
+    /**
+     * Returns the last snapshot built for the player, which may be outdated.
+     */
+    PlayerInfo getInfo() {
+        return info;
+    }
+
+    void setInfo(PlayerInfo info) {
+        this.info = info;
     }
 
     List<ActionCard> getCards() {
-        return Collections.unmodifiableList(cards);
+        return hand.getCards();
+    }
+
+    List<ActionCard> getCards(Action action) {
+        return hand.getCards(action);
+    }
+
+    List<ActionCard> getMandatoryCards() {
+        return hand.getMandatoryCards();
+    }
+
+    int countCards(Action action) {
+        return hand.count(action);
+    }
+
+    int countCards(ActionType type) {
+        return hand.count(type);
     }
 
     int getCurrentPriority() {
-        boolean seen1 = false, seen2 = false;
-        int best1 = 0, best2 = 0;
-        for (ActionCard card : cards) {
-            if (hold.contains(card)) {
-                continue;
-            }
-            int actionCardPriority = card.getPriority();
-            if (card.getType().isMandatory()) {
-                if (!seen1 || actionCardPriority < best1) {
-                    seen1 = true;
-                    best1 = actionCardPriority;
-                }
-            } else {
-                if (!seen2 || actionCardPriority < best2) {
-                    seen2 = true;
-                    best2 = actionCardPriority;
-                }
-            }
-        }
-        return seen1 ? best1 : (seen2 ? best2 : BaseActionCard.LOW_PRIORITY);
+        return hand.getPriority();
     }
 
     void holdCard(ActionCard actionCard) {
         LOG.info("{}: holding card {}", this.player, actionCard);
-        if (cards.contains(actionCard)) {
-            if (hold.contains(actionCard)) {
+        if (!hand.hold(actionCard)) {
+            if (hand.contains(actionCard)) {
                 LOG.warn("{}: card {} is already held", this.player, actionCard);
             } else {
-                int i = cards.indexOf(actionCard);
-                hold.add(cards.get(i));
+                LOG.warn("{}: card {} is not in the player's hand", this.player, actionCard);
             }
-        } else {
-            LOG.warn("{}: card {} is not in the player's hand", this.player, actionCard);
         }
     }
 
     void releaseAll() {
-        if (!hold.isEmpty()) {
-            LOG.debug("Releasing all cards: {}", hold);
-            hold.clear();
+        if (LOG.isDebugEnabled()) {
+            List<ActionCard> held = hand.getHeldCards();
+            if (!held.isEmpty()) {
+                LOG.debug("Releasing all cards: {}", held);
+            }
         }
+        hand.releaseAll();
     }
 
     boolean canUseCard(ActionCard card) {
         if (card == null) {
             throw new NullPointerException("card is null");
         }
-        int priority = getCurrentPriority();
-        int i = cards.indexOf(card);
-        if (i < 0) {
+        ActionCard actionCard = hand.get(card);
+        if (actionCard == null) {
             LOG.warn("{}: card {} is not in the player's hand", this.player, card);
             return false;
         } else {
-            ActionCard actionCard = cards.get(i);
-            return actionCard.getPriority() <= priority;
+            return actionCard.getPriority() <= hand.getPriority();
         }
     }
 
     List<ActionCard> getActiveCards() {
-        List<ActionCard> result;
-        int currentPriority = getCurrentPriority();
-        result = cards.stream()
-                .filter(actionCard -> actionCard.getPriority() <= currentPriority)
-                .filter(actionCard -> !hold.contains(actionCard))
-                .sorted(Comparator.comparing(ActionCard::getPriority))
-                .collect(Collectors.toUnmodifiableList());
-        return result;
+        return hand.getActiveCards();
     }
 
     /**
@@ -148,30 +216,17 @@ final class PlayerData {
         if (card == null) {
             throw new NullPointerException("card is null");
         }
-        boolean result;
-        if (cards.contains(card)) {
-            if (hold.contains(card)) {
+        if (LOG.isDebugEnabled()) {
+            if (hand.isHeld(card)) {
                 LOG.debug("Releasing card {} from hold for {}", card, player);
-                hold.removeAll(Collections.singleton(card));
-                result = true;
-            } else {
+            } else if (hand.contains(card)) {
                 LOG.debug("Card {} already in hand for {}", card, player);
-                result = false;
+            } else {
+                LOG.debug("Adding card {} to player {}", card, player);
             }
-            // move to top and renew
-            cards.removeAll(Collections.singleton(card));
-            cards.add(card);
-        } else {
-            LOG.debug("Adding card {} to player {}", card, player);
-            result = cards.add(card);
         }
-        return result;
-    }
-
-    List<ActionCard> getByCard(ActionCard card) {
-        return this.cards.stream()
-                .filter(actionCard -> actionCard.equals(card))
-                .collect(Collectors.toList());
+        // an equal card is moved to top and renewed
+        return hand.add(card);
     }
 
     /**
@@ -184,18 +239,8 @@ final class PlayerData {
         if (card == null) {
             throw new NullPointerException("card is null");
         }
-        ActionCard result = null;
-        List<ActionCard> toRemove;
-        toRemove = getByCard(card);
-        if (toRemove.size() > 0) {
-            result = toRemove.get(0);
-            if (toRemove.size() > 1) {
-                LOG.warn("Found more than one card to remove: {}", toRemove);
-            }
-        }
-        hold.removeAll(toRemove);
-        boolean b = cards.removeAll(toRemove);
-        if (b) {
+        ActionCard result = hand.remove(card);
+        if (result != null) {
             LOG.debug("Removed card {} from player {}", card, player);
         } else {
             LOG.warn("Card {} not found in player {}", card, player);
@@ -208,9 +253,7 @@ final class PlayerData {
             throw new NullPointerException("cards is null");
         }
         LOG.debug("Removing cards {} from player {}", cards, player);
-        this.hold.removeAll(cards);
-        boolean b = this.cards.removeAll(cards);
-        if (!b) {
+        if (!hand.removeAll(cards)) {
             LOG.warn("No cards removed from player {}", player);
         }
     }
@@ -220,8 +263,8 @@ final class PlayerData {
         return "BaseGame.PlayerData(player=" + this.getPlayer()
                 + ", status=" + this.getStatus()
                 + ", position=" + this.getPosition()
-                + ", cards=" + this.cards.stream().map(ActionCard::getName).collect(Collectors.toList())
-                + ", hold=" + this.hold.stream().map(ActionCard::getName).collect(Collectors.toList())
+                + ", cards=" + this.hand.getCards().stream().map(ActionCard::getName).collect(Collectors.toList())
+                + ", hold=" + this.hand.getHeldCards().stream().map(ActionCard::getName).collect(Collectors.toList())
                 + ")";
     }
 }
@@ -0,0 +1,99 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import pp.muza.monopoly.model.Player;
+
+/**
+ * Read-only map view of the owners of the properties, from position to owner.
+ * Backed by the game's owner-by-position array, so it always shows the current state.
+ *
+ * @author dmytromuza
+ */
+final class PropertyOwners extends AbstractMap<Integer, Player> {
+
+    private final int[] ownerByPosition;
+    private final List<Player> players;
+    private final Set<Map.Entry<Integer, Player>> entrySet = new EntrySet();
+
+    PropertyOwners(int[] ownerByPosition, List<Player> players) {
+        this.ownerByPosition = ownerByPosition;
+        this.players = players;
+    }
+
+    private int owner(Object key) {
+        if (key instanceof Integer) {
+            int position = (Integer) key;
+            if (position >= 0 && position < ownerByPosition.length) {
+                return ownerByPosition[position];
+            }
+        }
+        return OwnershipIndex.NO_OWNER;
+    }
+
+    @Override
+    public Player get(Object key) {
+        int owner = owner(key);
+        return owner == OwnershipIndex.NO_OWNER ? null : players.get(owner);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return owner(key) != OwnershipIndex.NO_OWNER;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, Player>> entrySet() {
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Integer, Player>> {
+
+        @Override
+        public Iterator<Map.Entry<Integer, Player>> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    int position = from;
+                    while (position < ownerByPosition.length && ownerByPosition[position] == OwnershipIndex.NO_OWNER) {
+                        position++;
+                    }
+                    return position;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < ownerByPosition.length;
+                }
+
+                @Override
+                public Map.Entry<Integer, Player> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int position = next;
+                    next = advance(position + 1);
+                    return new SimpleImmutableEntry<>(position, players.get(ownerByPosition[position]));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (int owner : ownerByPosition) {
+                if (owner != OwnershipIndex.NO_OWNER) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.CardSink;
+
+/**
+ * Reusable buffer for the cards spawned by a played card.
+ * <p>
+ * Tracks whether the played card was spawned again, i.e. was not used.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class SpawnedCards implements CardSink {
+
+    private final List<ActionCard> cards = new ArrayList<>();
+    private final List<ActionCard> view = Collections.unmodifiableList(cards);
+    private ActionCard source;
+    private boolean respawned;
+    private boolean busy;
+
+    /**
+     * Starts collecting the cards spawned by the given card.
+     *
+     * @param card the played card.
+     * @return false if the buffer is already in use.
+     */
+    boolean begin(ActionCard card) {
+        if (busy) {
+            return false;
+        }
+        busy = true;
+        cards.clear();
+        source = card;
+        respawned = false;
+        return true;
+    }
+
+    void end() {
+        busy = false;
+        source = null;
+        cards.clear();
+    }
+
+    @Override
+    public void add(ActionCard card) {
+        cards.add(card);
+        if (!respawned && card.equals(source)) {
+            respawned = true;
+        }
+    }
+
+    boolean isRespawned() {
+        return respawned;
+    }
+
+    int size() {
+        return cards.size();
+    }
+
+    ActionCard get(int index) {
+        return cards.get(index);
+    }
+
+    /**
+     * Returns the collected cards. The list is valid until the buffer is reused.
+     *
+     * @return an unmodifiable view of the collected cards.
+     */
+    List<ActionCard> getCards() {
+        return view;
+    }
+}
@@ -0,0 +1,65 @@
+package pp.muza.monopoly.model.game;
+
+/**
+ * Zobrist hash of the game state, updated on every change.
+ * <p>
+ * Every fact of the state (a player's position, status and balance, the owner of a
+ * position, a card on a player's hand and whether it is held) has a pseudorandom
+ * key, and the hash is the XOR of the keys of the current facts, so a change costs
+ * two XORs. Keys are computed from the fact instead of being kept in tables. The
+ * order of the fortune deck is hashed separately, see {@link DeckHash}.
+ * </p>
+ * <p>
+ * Cards are keyed by {@link pp.muza.monopoly.model.ActionCard#stateKey()}, so the
+ * hash of a state is the same in every run.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class StateHash {
+
+    static final int POSITION = 1;
+    static final int STATUS = 2;
+    static final int BALANCE = 3;
+    static final int OWNER = 4;
+    static final int CARD = 5;
+    static final int HELD = 6;
+    static final int DECK = 7;
+    static final int CURRENT = 8;
+
+    private static final long SEED = 0x6a09e667f3bcc909L;
+
+    private long value;
+
+    StateHash() {
+    }
+
+    StateHash(StateHash other) {
+        this.value = other.value;
+    }
+
+    static long key(int kind, int a, long b) {
+        long z = SEED + kind * 0x9e3779b97f4a7c15L + a * 0xc2b2ae3d27d4eb4fL + b * 0x165667b19e3779f9L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    long get() {
+        return value;
+    }
+
+    void set(long value) {
+        this.value = value;
+    }
+
+    void toggle(int kind, int a, long b) {
+        value ^= key(kind, a, b);
+    }
+
+    void change(int kind, int a, int from, int to) {
+        if (from != to) {
+            value ^= key(kind, a, from) ^ key(kind, a, to);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import pp.muza.monopoly.consts.RuleOption;
 import pp.muza.stuff.IndexedEntry;
 import pp.muza.monopoly.errors.BankException;
 import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.Asset;
@@ -20,6 +21,8 @@ import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.PlayerStatus;
 import pp.muza.monopoly.model.Property;
 import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -32,13 +35,17 @@ public class TurnImpl implements Turn {
     private static final Logger LOG = LoggerFactory.getLogger(TurnImpl.class);
 
     private final Game game;
-    private final Player player;
+    private Player player;
 
     protected TurnImpl(Game game, Player player) {
         this.game = game;
         this.player = player;
     }
 
+    void reset(Player player) {
+        this.player = player;
+    }
+
     protected Game game() {
         return game;
     }
@@ -70,6 +77,24 @@ public class TurnImpl implements Turn {
         }
     }
 
+    @Override
+    public Transition advance(int distance) throws TurnException {
+        try {
+            return game().advance(player(), distance);
+        } catch (GameException e) {
+            throw new TurnException(e);
+        }
+    }
+
+    @Override
+    public Transition advanceTo(int position) throws TurnException {
+        try {
+            return game().advanceTo(player(), position);
+        } catch (GameException e) {
+            throw new TurnException(e);
+        }
+    }
+
     @Override
     public void buyProperty(int position) throws BankException, TurnException {
         try {
@@ -79,6 +104,15 @@ public class TurnImpl implements Turn {
         }
     }
 
+    @Override
+    public Result tryBuyProperty(int position) throws TurnException {
+        try {
+            return game().tryBuyProperty(player(), position);
+        } catch (GameException e) {
+            throw new TurnException(e);
+        }
+    }
+
     @Override
     public void leaveJail() throws TurnException {
         try {
@@ -199,6 +233,11 @@ public class TurnImpl implements Turn {
         game().withdraw(player(), value);
     }
 
+    @Override
+    public Result tryWithdraw(int value) {
+        return game().tryWithdraw(player(), value);
+    }
+
     @Override
     public Player getPlayer() {
         return player();
@@ -250,6 +289,11 @@ public class TurnImpl implements Turn {
         }
     }
 
+    @Override
+    public Result tryBid(int position, int value) {
+        return game().tryBid(player(), position, value);
+    }
+
     @Override
     public int getBalance() {
         return game().getBalance(player());
@@ -275,4 +319,14 @@ public class TurnImpl implements Turn {
         }
         return result;
     }
+
+    @Override
+    public List<IndexedEntry<Property>> getNotOwnedProperties() {
+        return game().getNotOwnedProperties(player());
+    }
+
+    @Override
+    public RandomSource getRandom() {
+        return game().getRandom();
+    }
 }
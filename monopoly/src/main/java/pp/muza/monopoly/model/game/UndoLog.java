@@ -0,0 +1,172 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.Arrays;
+
+/**
+ * The inverses of the game's state changes, kept in parallel primitive arrays so
+ * that recording allocates nothing once the arrays have grown.
+ * <p>
+ * Every entry is an operation code with two int arguments and an optional
+ * reference; the meaning of the arguments depends on the operation, see the
+ * constants. Nothing is recorded until the first {@link #mark()}.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class UndoLog {
+
+    /**
+     * The owner of the property changed: the position and the previous owner's index.
+     */
+    static final int OWNER = 0;
+    /**
+     * The balance changed: the player's index and the previous balance.
+     */
+    static final int BALANCE = 1;
+    /**
+     * The player moved: the player's index and the previous position.
+     */
+    static final int POSITION = 2;
+    /**
+     * The status changed: the player's index and the previous status' ordinal, or -1.
+     */
+    static final int STATUS = 3;
+    /**
+     * A card was appended to the hand: the player's index.
+     */
+    static final int HAND_ADD = 4;
+    /**
+     * A card was removed from the hand: the player's index, the card's index and
+     * whether it was held (1 or 0) in the high bit; the reference is the card.
+     */
+    static final int HAND_REMOVE = 5;
+    /**
+     * A card was held: the player's index and the card's index.
+     */
+    static final int HAND_HOLD = 6;
+    /**
+     * A held card was released: the player's index and the card's index.
+     */
+    static final int HAND_RELEASE = 7;
+    /**
+     * The first fortune card was taken; the reference is the card.
+     */
+    static final int DECK_TAKE = 8;
+    /**
+     * A fortune card was returned to the bottom of the deck.
+     */
+    static final int DECK_RETURN = 9;
+    /**
+     * A fortune card was picked from the deck: its index; the reference is the card.
+     */
+    static final int DECK_PICK = 10;
+    /**
+     * The turn changed: the previous current player's index and turn number; the
+     * reference is the previous turn, or null.
+     */
+    static final int TURN = 11;
+    /**
+     * The turn made a step: the previous number of steps; the reference is the turn.
+     */
+    static final int STEP = 12;
+    /**
+     * A card was appended to the used cards: the index of the equal card removed
+     * before, or -1; the reference is the turn.
+     */
+    static final int USED = 13;
+    /**
+     * The turn was marked finished; the reference is the turn.
+     */
+    static final int FINISH = 14;
+    /**
+     * The game was started.
+     */
+    static final int START = 15;
+    /**
+     * A fortune card was moved to the top of the deck: its previous index; the
+     * reference is the card.
+     */
+    static final int DECK_TOP = 16;
+
+    static final int HELD = 1 << 31;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] ops = new int[INITIAL_CAPACITY];
+    private int[] first = new int[INITIAL_CAPACITY];
+    private int[] second = new int[INITIAL_CAPACITY];
+    private Object[] refs = new Object[INITIAL_CAPACITY];
+    private int size;
+    private boolean recording;
+
+    boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts recording, if not yet, and returns the current end of the log.
+     *
+     * @return the mark to undo to.
+     */
+    int mark() {
+        recording = true;
+        return size;
+    }
+
+    void record(int op, int a, int b, Object ref) {
+        if (!recording) {
+            return;
+        }
+        if (size == ops.length) {
+            int capacity = size * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            first = Arrays.copyOf(first, capacity);
+            second = Arrays.copyOf(second, capacity);
+            refs = Arrays.copyOf(refs, capacity);
+        }
+        ops[size] = op;
+        first[size] = a;
+        second[size] = b;
+        refs[size] = ref;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes the last entry, which is then available through the getters until
+     * the next change of the log.
+     */
+    void pop() {
+        size--;
+    }
+
+    int op() {
+        return ops[size];
+    }
+
+    int first() {
+        return first[size];
+    }
+
+    int second() {
+        return second[size];
+    }
+
+    Object ref() {
+        Object ref = refs[size];
+        refs[size] = null;
+        return ref;
+    }
+
+    /**
+     * Drops all entries and stops recording.
+     */
+    void clear() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+        recording = false;
+    }
+}
@@ -0,0 +1,120 @@
+package pp.muza.monopoly.model.journal;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.pieces.actions.Arrival;
+import pp.muza.monopoly.model.pieces.actions.Bid;
+import pp.muza.monopoly.model.pieces.actions.BirthdayParty;
+import pp.muza.monopoly.model.pieces.actions.Buy;
+import pp.muza.monopoly.model.pieces.actions.ChoiceAuction;
+import pp.muza.monopoly.model.pieces.actions.ChoiceContract;
+import pp.muza.monopoly.model.pieces.actions.ChoiceFortuneCard;
+import pp.muza.monopoly.model.pieces.actions.Contract;
+import pp.muza.monopoly.model.pieces.actions.EndAuction;
+import pp.muza.monopoly.model.pieces.actions.EndTurn;
+import pp.muza.monopoly.model.pieces.actions.FortuneCard;
+import pp.muza.monopoly.model.pieces.actions.GetOrPay;
+import pp.muza.monopoly.model.pieces.actions.Gift;
+import pp.muza.monopoly.model.pieces.actions.GoReward;
+import pp.muza.monopoly.model.pieces.actions.GoToJail;
+import pp.muza.monopoly.model.pieces.actions.Income;
+import pp.muza.monopoly.model.pieces.actions.JailFine;
+import pp.muza.monopoly.model.pieces.actions.Move;
+import pp.muza.monopoly.model.pieces.actions.MoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.MoveGetOrPay;
+import pp.muza.monopoly.model.pieces.actions.MoveTo;
+import pp.muza.monopoly.model.pieces.actions.NewTurn;
+import pp.muza.monopoly.model.pieces.actions.OptionMove;
+import pp.muza.monopoly.model.pieces.actions.OptionMoveTo;
+import pp.muza.monopoly.model.pieces.actions.OwnershipPrivilege;
+import pp.muza.monopoly.model.pieces.actions.PayRent;
+import pp.muza.monopoly.model.pieces.actions.PromoteAuction;
+import pp.muza.monopoly.model.pieces.actions.ReceiveMoney;
+import pp.muza.monopoly.model.pieces.actions.RentRevenue;
+import pp.muza.monopoly.model.pieces.actions.RollDice;
+import pp.muza.monopoly.model.pieces.actions.Sale;
+import pp.muza.monopoly.model.pieces.actions.SpawnMoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.StartAuction;
+import pp.muza.monopoly.model.pieces.actions.Submit;
+import pp.muza.monopoly.model.pieces.actions.Takeover;
+import pp.muza.monopoly.model.pieces.actions.Tax;
+
+/**
+ * The concrete action cards known to {@link GameInfoCodec}.
+ * <p>
+ * The ordinal is the card id in the snapshot, so new kinds must be added at the end.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+enum CardKind {
+    ARRIVAL(Arrival.class),
+    BID(Bid.class),
+    BIRTHDAY_PARTY(BirthdayParty.class),
+    BUY(Buy.class),
+    CHOICE_AUCTION(ChoiceAuction.class),
+    CHOICE_CONTRACT(ChoiceContract.class),
+    CHOICE_FORTUNE_CARD(ChoiceFortuneCard.class),
+    CONTRACT(Contract.class),
+    END_AUCTION(EndAuction.class),
+    END_TURN(EndTurn.class),
+    FORTUNE_CARD(FortuneCard.class),
+    GET_OR_PAY(GetOrPay.class),
+    GIFT(Gift.class),
+    GO_REWARD(GoReward.class),
+    GO_TO_JAIL(GoToJail.class),
+    INCOME(Income.class),
+    JAIL_FINE(JailFine.class),
+    MOVE(Move.class),
+    MOVE_AND_TAKEOVER(MoveAndTakeover.class),
+    MOVE_GET_OR_PAY(MoveGetOrPay.class),
+    MOVE_TO(MoveTo.class),
+    NEW_TURN(NewTurn.class),
+    OPTION_MOVE(OptionMove.class),
+    OPTION_MOVE_TO(OptionMoveTo.class),
+    OWNERSHIP_PRIVILEGE(OwnershipPrivilege.class),
+    PAY_RENT(PayRent.class),
+    PROMOTE_AUCTION(PromoteAuction.class),
+    RECEIVE_MONEY(ReceiveMoney.class),
+    RENT_REVENUE(RentRevenue.class),
+    ROLL_DICE(RollDice.class),
+    SALE(Sale.class),
+    SPAWN_MOVE_AND_TAKEOVER(SpawnMoveAndTakeover.class),
+    START_AUCTION(StartAuction.class),
+    SUBMIT(Submit.class),
+    TAKEOVER(Takeover.class),
+    TAX(Tax.class);
+
+    private static final CardKind[] VALUES = values();
+    private static final ClassValue<CardKind> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected CardKind computeValue(Class<?> type) {
+            for (CardKind kind : VALUES) {
+                if (kind.aClass == type) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    };
+
+    private final Class<? extends ActionCard> aClass;
+
+    CardKind(Class<? extends ActionCard> aClass) {
+        this.aClass = aClass;
+    }
+
+    static CardKind of(ActionCard card) {
+        CardKind kind = BY_CLASS.get(card.getClass());
+        if (kind == null) {
+            throw new IllegalArgumentException("Unsupported card: " + card.getClass().getName());
+        }
+        return kind;
+    }
+
+    static CardKind of(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown card id: " + id);
+        }
+        return VALUES[id];
+    }
+}
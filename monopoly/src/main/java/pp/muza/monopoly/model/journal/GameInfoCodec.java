@@ -0,0 +1,474 @@
+package pp.muza.monopoly.model.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.consts.RuleOption;
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.PlayerInfo;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Asset;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.Fortune;
+import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.board.BoardImpl;
+import pp.muza.monopoly.model.pieces.actions.Arrival;
+import pp.muza.monopoly.model.pieces.actions.BaseAuction;
+import pp.muza.monopoly.model.pieces.actions.BaseBuy;
+import pp.muza.monopoly.model.pieces.actions.BaseDebt;
+import pp.muza.monopoly.model.pieces.actions.BasePayment;
+import pp.muza.monopoly.model.pieces.actions.Bid;
+import pp.muza.monopoly.model.pieces.actions.BirthdayParty;
+import pp.muza.monopoly.model.pieces.actions.Buy;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.pieces.actions.ChoiceAuction;
+import pp.muza.monopoly.model.pieces.actions.ChoiceContract;
+import pp.muza.monopoly.model.pieces.actions.ChoiceFortuneCard;
+import pp.muza.monopoly.model.pieces.actions.Contract;
+import pp.muza.monopoly.model.pieces.actions.EndAuction;
+import pp.muza.monopoly.model.pieces.actions.EndTurn;
+import pp.muza.monopoly.model.pieces.actions.FortuneCard;
+import pp.muza.monopoly.model.pieces.actions.GetOrPay;
+import pp.muza.monopoly.model.pieces.actions.Gift;
+import pp.muza.monopoly.model.pieces.actions.GoReward;
+import pp.muza.monopoly.model.pieces.actions.GoToJail;
+import pp.muza.monopoly.model.pieces.actions.Income;
+import pp.muza.monopoly.model.pieces.actions.JailFine;
+import pp.muza.monopoly.model.pieces.actions.Move;
+import pp.muza.monopoly.model.pieces.actions.MoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.MoveGetOrPay;
+import pp.muza.monopoly.model.pieces.actions.MoveTo;
+import pp.muza.monopoly.model.pieces.actions.NewTurn;
+import pp.muza.monopoly.model.pieces.actions.OptionMove;
+import pp.muza.monopoly.model.pieces.actions.OptionMoveTo;
+import pp.muza.monopoly.model.pieces.actions.OwnershipPrivilege;
+import pp.muza.monopoly.model.pieces.actions.PayRent;
+import pp.muza.monopoly.model.pieces.actions.PromoteAuction;
+import pp.muza.monopoly.model.pieces.actions.ReceiveMoney;
+import pp.muza.monopoly.model.pieces.actions.RentRevenue;
+import pp.muza.monopoly.model.pieces.actions.RollDice;
+import pp.muza.monopoly.model.pieces.actions.Sale;
+import pp.muza.monopoly.model.pieces.actions.SpawnMoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.StartAuction;
+import pp.muza.monopoly.model.pieces.actions.Submit;
+import pp.muza.monopoly.model.pieces.actions.Takeover;
+import pp.muza.monopoly.model.pieces.actions.Tax;
+import pp.muza.monopoly.model.pieces.lands.BaseProperty;
+import pp.muza.monopoly.model.pieces.lands.ChanceLand;
+import pp.muza.monopoly.model.pieces.lands.GotoJail;
+import pp.muza.monopoly.model.pieces.lands.Jail;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+import pp.muza.monopoly.model.pieces.lands.Parking;
+import pp.muza.monopoly.model.pieces.lands.Start;
+
+/**
+ * Binary snapshot of a {@link GameInfo}.
+ * <p>
+ * The snapshot starts with the version byte, followed by the players' names, the
+ * board, the rules, the fortune deck in its order, the turn counters and the
+ * players' state. Counts and amounts are varints, positions and enum ordinals are
+ * single bytes, a card is its {@link CardKind} id followed by its parameters, and
+ * a player referenced by a card is its index in the game plus one, 0 for none.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class GameInfoCodec {
+
+    public static final int VERSION = 1;
+
+    private static final LandType[] LAND_TYPES = LandType.values();
+    private static final Asset[] ASSETS = Asset.values();
+    private static final RuleOption[] RULE_OPTIONS = RuleOption.values();
+    private static final Chance[] CHANCES = Chance.values();
+    private static final PlayerStatus[] STATUSES = PlayerStatus.values();
+
+    private GameInfoCodec() {
+    }
+
+    /**
+     * Writes the snapshot to the buffer.
+     *
+     * @param buffer   the buffer.
+     * @param gameInfo the state of the game.
+     * @throws java.nio.BufferOverflowException if the buffer is too small.
+     */
+    public static void write(ByteBuffer buffer, GameInfo gameInfo) {
+        buffer.put((byte) VERSION);
+        List<Player> players = gameInfo.getPlayers();
+        Varints.write(buffer, players.size());
+        for (Player player : players) {
+            writeString(buffer, player.getName());
+        }
+        writeBoard(buffer, gameInfo.getBoard());
+        List<Map.Entry<RuleOption, String>> rules = gameInfo.getRules();
+        Varints.write(buffer, rules.size());
+        for (Map.Entry<RuleOption, String> rule : rules) {
+            buffer.put((byte) rule.getKey().ordinal());
+            writeString(buffer, rule.getValue());
+        }
+        List<Fortune> fortunes = gameInfo.getFortunes();
+        Varints.write(buffer, fortunes.size());
+        for (Fortune fortune : fortunes) {
+            buffer.put((byte) fortune.getChance().ordinal());
+        }
+        Varints.write(buffer, Varints.zigzag(gameInfo.getCurrentPlayerIndex()));
+        Varints.write(buffer, gameInfo.getTurnNumber());
+        Varints.write(buffer, gameInfo.getMaxTurns());
+        List<PlayerInfo> playerInfo = gameInfo.getPlayerInfo();
+        Varints.write(buffer, playerInfo.size());
+        for (PlayerInfo info : playerInfo) {
+            writePlayer(buffer, players, info.getPlayer());
+            writePosition(buffer, info.getPosition());
+            buffer.put((byte) info.getStatus().ordinal());
+            Varints.write(buffer, Varints.zigzag(info.getCoins()));
+            List<ActionCard> cards = info.getActionCards();
+            Varints.write(buffer, cards == null ? 0 : cards.size() + 1);
+            if (cards != null) {
+                for (ActionCard card : cards) {
+                    writeCard(buffer, players, card);
+                }
+            }
+            List<Integer> belongings = info.getBelongings();
+            Varints.write(buffer, belongings == null ? 0 : belongings.size() + 1);
+            if (belongings != null) {
+                for (Integer position : belongings) {
+                    writePosition(buffer, position);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the snapshot from the buffer.
+     *
+     * @param buffer the buffer positioned at the snapshot.
+     * @return the state of the game.
+     * @throws IllegalArgumentException if the snapshot has another version or is malformed.
+     */
+    public static GameInfo read(ByteBuffer buffer) {
+        int version = buffer.get() & 0xff;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        int count = Varints.read(buffer);
+        ImmutableList.Builder<Player> playersBuilder = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            playersBuilder.add(new Player(readString(buffer)));
+        }
+        List<Player> players = playersBuilder.build();
+        Board board = readBoard(buffer);
+        count = Varints.read(buffer);
+        ImmutableList.Builder<Map.Entry<RuleOption, String>> rules = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            RuleOption option = RULE_OPTIONS[buffer.get() & 0xff];
+            rules.add(new AbstractMap.SimpleImmutableEntry<>(option, readString(buffer)));
+        }
+        count = Varints.read(buffer);
+        ImmutableList.Builder<Fortune> fortunes = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            fortunes.add(FortuneCard.create(CHANCES[buffer.get() & 0xff]));
+        }
+        GameInfo.GameInfoBuilder builder = GameInfo.builder()
+                .players(players)
+                .board(board)
+                .rules(rules.build())
+                .fortunes(fortunes.build())
+                .currentPlayerIndex(Varints.unzigzag(Varints.read(buffer)))
+                .turnNumber(Varints.read(buffer))
+                .maxTurns(Varints.read(buffer));
+        count = Varints.read(buffer);
+        ImmutableList.Builder<PlayerInfo> playerInfo = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            PlayerInfo.PlayerInfoBuilder info = PlayerInfo.builder()
+                    .player(readPlayer(buffer, players))
+                    .position(readPosition(buffer))
+                    .status(STATUSES[buffer.get() & 0xff])
+                    .coins(Varints.unzigzag(Varints.read(buffer)));
+            int cards = Varints.read(buffer);
+            if (cards > 0) {
+                ImmutableList.Builder<ActionCard> actionCards = ImmutableList.builderWithExpectedSize(cards - 1);
+                for (int j = 1; j < cards; j++) {
+                    actionCards.add(readCard(buffer, players));
+                }
+                info.actionCards(actionCards.build());
+            }
+            int belongings = Varints.read(buffer);
+            if (belongings > 0) {
+                ImmutableList.Builder<Integer> positions = ImmutableList.builderWithExpectedSize(belongings - 1);
+                for (int j = 1; j < belongings; j++) {
+                    positions.add(readPosition(buffer));
+                }
+                info.belongings(positions.build());
+            }
+            playerInfo.add(info.build());
+        }
+        return builder.playerInfo(playerInfo.build()).build();
+    }
+
+    private static void writeBoard(ByteBuffer buffer, Board board) {
+        List<Land> lands = board.getLands();
+        Varints.write(buffer, lands.size());
+        for (Land land : lands) {
+            LandType type = land.getType();
+            buffer.put((byte) type.ordinal());
+            switch (type) {
+                case START:
+                    Varints.write(buffer, Varints.zigzag(((Start) land).getIncomeTax()));
+                    break;
+                case JAIL:
+                    Varints.write(buffer, Varints.zigzag(((Jail) land).getFine()));
+                    break;
+                case PROPERTY:
+                    buffer.put((byte) ((BaseProperty) land).getAsset().ordinal());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static Board readBoard(ByteBuffer buffer) {
+        int count = Varints.read(buffer);
+        ImmutableList.Builder<Land> lands = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            LandType type = LAND_TYPES[buffer.get() & 0xff];
+            switch (type) {
+                case CHANCE:
+                    lands.add(new ChanceLand());
+                    break;
+                case GOTO_JAIL:
+                    lands.add(new GotoJail());
+                    break;
+                case JAIL:
+                    lands.add(new Jail(Varints.unzigzag(Varints.read(buffer))));
+                    break;
+                case PARKING:
+                    lands.add(new Parking());
+                    break;
+                case PROPERTY:
+                    lands.add(new BaseProperty(ASSETS[buffer.get() & 0xff]));
+                    break;
+                case START:
+                    lands.add(new Start(Varints.unzigzag(Varints.read(buffer))));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported land: " + type);
+            }
+        }
+        return new BoardImpl(lands.build());
+    }
+
+    private static void writeCard(ByteBuffer buffer, List<Player> players, ActionCard card) {
+        CardKind kind = CardKind.of(card);
+        buffer.put((byte) kind.ordinal());
+        switch (kind) {
+            case ARRIVAL:
+            case GET_OR_PAY:
+            case TAKEOVER:
+                writePosition(buffer, ((Arrival) card).getPosition());
+                break;
+            case BUY:
+            case OWNERSHIP_PRIVILEGE:
+                writePosition(buffer, ((BaseBuy) card).getPosition());
+                break;
+            case MOVE_TO:
+            case MOVE_AND_TAKEOVER:
+            case MOVE_GET_OR_PAY:
+            case OPTION_MOVE_TO:
+                writePosition(buffer, ((MoveTo) card).getPosition());
+                break;
+            case MOVE:
+            case OPTION_MOVE:
+                Varints.write(buffer, Varints.zigzag(((Move) card).getDistance()));
+                break;
+            case BID:
+                writePosition(buffer, ((Bid) card).getPosition());
+                Varints.write(buffer, Varints.zigzag(((Bid) card).getPrice()));
+                break;
+            case END_AUCTION:
+            case PROMOTE_AUCTION:
+                writePosition(buffer, ((BaseAuction) card).getPosition());
+                Varints.write(buffer, Varints.zigzag(((BaseAuction) card).getPrice()));
+                break;
+            case CONTRACT:
+            case SALE:
+                writePosition(buffer, ((Contract) card).getPosition());
+                Varints.write(buffer, Varints.zigzag(((Contract) card).getPrice()));
+                if (kind == CardKind.SALE) {
+                    writePlayer(buffer, players, ((Sale) card).getBuyer());
+                }
+                break;
+            case SUBMIT:
+                writePlayer(buffer, players, ((Submit) card).getBidder());
+                writePosition(buffer, ((Submit) card).getPosition());
+                Varints.write(buffer, Varints.zigzag(((Submit) card).getPrice()));
+                break;
+            case JAIL_FINE:
+            case TAX:
+                Varints.write(buffer, Varints.zigzag(((BaseDebt) card).getValue()));
+                break;
+            case GIFT:
+            case PAY_RENT:
+                Varints.write(buffer, Varints.zigzag(((BaseDebt) card).getValue()));
+                writePlayer(buffer, players, ((BasePayment) card).getRecipient());
+                if (kind == CardKind.PAY_RENT) {
+                    writePosition(buffer, ((PayRent) card).getPosition());
+                }
+                break;
+            case GO_REWARD:
+            case INCOME:
+                Varints.write(buffer, Varints.zigzag(((Income) card).getValue()));
+                break;
+            case RECEIVE_MONEY:
+            case RENT_REVENUE:
+                Varints.write(buffer, Varints.zigzag(((Income) card).getValue()));
+                writePlayer(buffer, players, ((ReceiveMoney) card).getSender());
+                if (kind == CardKind.RENT_REVENUE) {
+                    writePosition(buffer, ((RentRevenue) card).getPosition());
+                }
+                break;
+            case FORTUNE_CARD:
+                buffer.put((byte) ((Fortune) card).getChance().ordinal());
+                break;
+            default:
+                // the card has no parameters
+                break;
+        }
+    }
+
+    private static ActionCard readCard(ByteBuffer buffer, List<Player> players) {
+        CardKind kind = CardKind.of(buffer.get() & 0xff);
+        switch (kind) {
+            case ARRIVAL:
+                return Arrival.create(readPosition(buffer));
+            case BID:
+                return Bid.create(readPosition(buffer), readInt(buffer));
+            case BIRTHDAY_PARTY:
+                return BirthdayParty.create();
+            case BUY:
+                return Buy.create(readPosition(buffer));
+            case CHOICE_AUCTION:
+                return ChoiceAuction.create();
+            case CHOICE_CONTRACT:
+                return ChoiceContract.create();
+            case CHOICE_FORTUNE_CARD:
+                return ChoiceFortuneCard.create();
+            case CONTRACT:
+                return Contract.create(readPosition(buffer), readInt(buffer));
+            case END_AUCTION:
+                return EndAuction.create(readPosition(buffer), readInt(buffer));
+            case END_TURN:
+                return EndTurn.create();
+            case FORTUNE_CARD:
+                return FortuneCard.create(CHANCES[buffer.get() & 0xff]);
+            case GET_OR_PAY:
+                return GetOrPay.create(readPosition(buffer));
+            case GIFT:
+                return Gift.create(readInt(buffer), readPlayer(buffer, players));
+            case GO_REWARD:
+                return GoReward.create(readInt(buffer));
+            case GO_TO_JAIL:
+                return GoToJail.create();
+            case INCOME:
+                return Income.create(readInt(buffer));
+            case JAIL_FINE:
+                return JailFine.create(readInt(buffer));
+            case MOVE:
+                return Move.create(readInt(buffer));
+            case MOVE_AND_TAKEOVER:
+                return MoveAndTakeover.create(readPosition(buffer));
+            case MOVE_GET_OR_PAY:
+                return MoveGetOrPay.create(readPosition(buffer));
+            case MOVE_TO:
+                return MoveTo.create(readPosition(buffer));
+            case NEW_TURN:
+                return NewTurn.create();
+            case OPTION_MOVE:
+                return OptionMove.create(readInt(buffer));
+            case OPTION_MOVE_TO:
+                return OptionMoveTo.create(readPosition(buffer));
+            case OWNERSHIP_PRIVILEGE:
+                return OwnershipPrivilege.create(readPosition(buffer));
+            case PAY_RENT:
+                return PayRent.create(readInt(buffer), readPlayer(buffer, players), readPosition(buffer));
+            case PROMOTE_AUCTION:
+                return PromoteAuction.create(readPosition(buffer), readInt(buffer));
+            case RECEIVE_MONEY:
+                return ReceiveMoney.create(readInt(buffer), readPlayer(buffer, players));
+            case RENT_REVENUE:
+                return RentRevenue.create(readInt(buffer), readPlayer(buffer, players), readPosition(buffer));
+            case ROLL_DICE:
+                return RollDice.create();
+            case SALE:
+                return Sale.create(readPosition(buffer), readInt(buffer), readPlayer(buffer, players));
+            case SPAWN_MOVE_AND_TAKEOVER:
+                return SpawnMoveAndTakeover.create();
+            case START_AUCTION:
+                return StartAuction.create();
+            case SUBMIT:
+                return Submit.create(readPlayer(buffer, players), readPosition(buffer), readInt(buffer));
+            case TAKEOVER:
+                return Takeover.create(readPosition(buffer));
+            case TAX:
+                return Tax.create(readInt(buffer));
+            default:
+                throw new IllegalArgumentException("Unsupported card: " + kind);
+        }
+    }
+
+    private static void writePosition(ByteBuffer buffer, int position) {
+        if (position < 0 || position > 0xff) {
+            throw new IllegalArgumentException("Position does not fit in a byte: " + position);
+        }
+        buffer.put((byte) position);
+    }
+
+    private static int readPosition(ByteBuffer buffer) {
+        return buffer.get() & 0xff;
+    }
+
+    private static int readInt(ByteBuffer buffer) {
+        return Varints.unzigzag(Varints.read(buffer));
+    }
+
+    private static void writePlayer(ByteBuffer buffer, List<Player> players, Player player) {
+        int index = player == null ? -1 : players.indexOf(player);
+        if (player != null && index < 0) {
+            throw new IllegalArgumentException("Unknown player: " + player);
+        }
+        Varints.write(buffer, index + 1);
+    }
+
+    private static Player readPlayer(ByteBuffer buffer, List<Player> players) {
+        int index = Varints.read(buffer);
+        return index == 0 ? null : players.get(index - 1);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            Varints.write(buffer, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        Varints.write(buffer, bytes.length + 1);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Varints.read(buffer);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package pp.muza.monopoly.model.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.GameEventListener;
+import pp.muza.monopoly.model.Offer;
+import pp.muza.monopoly.model.PlayGame;
+import pp.muza.monopoly.model.Player;
+
+/**
+ * Records the decisions of a seeded game, so that {@link GameReplayer} can rebuild
+ * it without the strategies.
+ * <p>
+ * The record holds the seed and the players' names, followed by a varint per
+ * decision:
+ * </p>
+ * <ul>
+ *     <li>0 - the player ended the turn;</li>
+ *     <li>{@code (index + 1) << 1} - the player played the active card at the index;</li>
+ *     <li>{@code (index + 1) << 1 | 1}, followed by the zigzag price - the player played
+ *     the offer at the index with another price.</li>
+ * </ul>
+ * <p>
+ * Cards which are not active are refused by the game and are not recorded.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class GameJournal implements GameEventListener {
+
+    private static final int MAX_VARINT = 5;
+
+    private final PlayGame game;
+    private byte[] buffer = new byte[256];
+    private int size;
+    private int decisions;
+
+    /**
+     * Starts recording the game, which must not be started yet.
+     *
+     * @param game the game.
+     * @param seed the seed the game was created with.
+     */
+    public GameJournal(PlayGame game, long seed) {
+        this.game = game;
+        ensure(Long.BYTES);
+        ByteBuffer.wrap(buffer).putLong(seed);
+        size = Long.BYTES;
+        List<Player> players = game.getPlayers();
+        write(players.size());
+        for (Player player : players) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            write(name.length);
+            ensure(name.length);
+            System.arraycopy(name, 0, buffer, size, name.length);
+            size += name.length;
+        }
+        game.addEventListener(this);
+    }
+
+    @Override
+    public void cardPlayed(Player player, ActionCard card) {
+        List<ActionCard> activeCards = game.getActiveCards(player);
+        int index = activeCards.indexOf(card);
+        if (index < 0) {
+            return;
+        }
+        ActionCard active = activeCards.get(index);
+        if (card instanceof Offer && ((Offer) card).getPrice() != ((Offer) active).getPrice()) {
+            write((index + 1) << 1 | 1);
+            write(Varints.zigzag(((Offer) card).getPrice()));
+        } else {
+            write((index + 1) << 1);
+        }
+        decisions++;
+    }
+
+    @Override
+    public void turnEnded(Player player, List<ActionCard> usedCards) {
+        write(0);
+        decisions++;
+    }
+
+    /**
+     * Returns the number of decisions recorded so far.
+     *
+     * @return the number of decisions.
+     */
+    public int getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Stops recording and returns the record.
+     *
+     * @return the record, ready to be appended to a {@link JournalSegment}.
+     */
+    public ByteBuffer finish() {
+        game.removeEventListener(this);
+        return ByteBuffer.wrap(Arrays.copyOf(buffer, size)).asReadOnlyBuffer();
+    }
+
+    private void write(int value) {
+        ensure(MAX_VARINT);
+        size = Varints.write(buffer, size, value);
+    }
+
+    private void ensure(int bytes) {
+        if (size + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+}
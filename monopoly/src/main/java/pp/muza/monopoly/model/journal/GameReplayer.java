@@ -0,0 +1,63 @@
+package pp.muza.monopoly.model.journal;
+
+import java.nio.ByteBuffer;
+
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Offer;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.game.Monopoly;
+
+/**
+ * Rebuilds a recorded game by playing its decisions again, without the strategies.
+ *
+ * @author dmytromuza
+ */
+public final class GameReplayer {
+
+    private GameReplayer() {
+    }
+
+    /**
+     * Replays the whole game.
+     *
+     * @param record the recorded game.
+     * @return the game in its final state.
+     * @throws GameException if the record does not match the game.
+     * @throws TurnException if the record does not match the game.
+     */
+    public static Monopoly replay(JournalRecord record) throws GameException, TurnException {
+        return replay(record, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replays the first decisions of the game, e.g. to inspect its intermediate
+     * state with {@link Monopoly#getGameInfo()}.
+     *
+     * @param record    the recorded game.
+     * @param decisions the number of decisions to replay.
+     * @return the game after the decisions.
+     * @throws GameException if the record does not match the game.
+     * @throws TurnException if the record does not match the game.
+     */
+    public static Monopoly replay(JournalRecord record, int decisions) throws GameException, TurnException {
+        Monopoly game = new Monopoly(record.getPlayers(), record.getSeed());
+        game.start();
+        ByteBuffer in = record.getDecisions();
+        for (int n = 0; n < decisions && in.hasRemaining(); n++) {
+            PlayTurn turn = game.getTurn();
+            int decision = Varints.read(in);
+            if (decision == 0) {
+                turn.endTurn();
+            } else {
+                ActionCard card = game.getActiveCards(turn.getPlayer()).get((decision >>> 1) - 1);
+                if ((decision & 1) != 0) {
+                    card = ((Offer) card).bid(Varints.unzigzag(Varints.read(in)));
+                }
+                turn.playCard(card);
+            }
+        }
+        return game;
+    }
+}
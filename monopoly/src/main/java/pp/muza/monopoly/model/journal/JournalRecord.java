@@ -0,0 +1,64 @@
+package pp.muza.monopoly.model.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.model.Player;
+
+/**
+ * A recorded game, as written by {@link GameJournal}.
+ *
+ * @author dmytromuza
+ */
+public final class JournalRecord {
+
+    private final long seed;
+    private final List<Player> players;
+    private final ByteBuffer decisions;
+
+    private JournalRecord(long seed, List<Player> players, ByteBuffer decisions) {
+        this.seed = seed;
+        this.players = players;
+        this.decisions = decisions;
+    }
+
+    /**
+     * Reads the record from the remaining bytes of the buffer. The record keeps a
+     * view of the buffer, which must not be changed.
+     *
+     * @param buffer the buffer.
+     * @return the record.
+     */
+    public static JournalRecord read(ByteBuffer buffer) {
+        ByteBuffer in = buffer.slice();
+        long seed = in.getLong();
+        int count = Varints.read(in);
+        ImmutableList.Builder<Player> players = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[Varints.read(in)];
+            in.get(name);
+            players.add(new Player(new String(name, StandardCharsets.UTF_8)));
+        }
+        return new JournalRecord(seed, players.build(), in.slice().asReadOnlyBuffer());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the encoded decisions.
+     *
+     * @return a new read-only buffer positioned at the first decision.
+     */
+    public ByteBuffer getDecisions() {
+        return decisions.duplicate();
+    }
+}
@@ -0,0 +1,149 @@
+package pp.muza.monopoly.model.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A memory-mapped file of game records.
+ * <p>
+ * The file starts with a header of the magic number, the number of records and the
+ * end of the written data; the records follow, each one prefixed with its length.
+ * Records are only appended. Appending is thread-safe, so the workers of a
+ * simulation can share a segment.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class JournalSegment implements Closeable {
+
+    private static final int MAGIC = 0x4d4a524e;
+    private static final int COUNT_OFFSET = 4;
+    private static final int END_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int[] offsets;
+    private int count;
+    private int end;
+
+    private JournalSegment(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a segment file, replacing an existing one.
+     *
+     * @param path     the file.
+     * @param capacity the size of the file in bytes.
+     * @return the empty segment.
+     * @throws IOException if the file cannot be created.
+     */
+    public static JournalSegment create(Path path, int capacity) throws IOException {
+        if (capacity < HEADER_SIZE) {
+            throw new IllegalArgumentException("Capacity is too small: " + capacity);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        JournalSegment segment = new JournalSegment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        segment.buffer.putInt(0, MAGIC);
+        segment.offsets = new int[64];
+        segment.setEnd(0, HEADER_SIZE);
+        return segment;
+    }
+
+    /**
+     * Opens an existing segment file to read its records or to append new ones.
+     *
+     * @param path the file.
+     * @return the segment.
+     * @throws IOException if the file cannot be read or is not a segment.
+     */
+    public static JournalSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a journal segment: " + path);
+        }
+        JournalSegment segment = new JournalSegment(channel, buffer);
+        int count = buffer.getInt(COUNT_OFFSET);
+        segment.offsets = new int[Math.max(64, count)];
+        int offset = HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            segment.offsets[i] = offset;
+            offset += Integer.BYTES + buffer.getInt(offset);
+        }
+        segment.count = count;
+        segment.end = buffer.getInt(END_OFFSET);
+        if (offset != segment.end) {
+            channel.close();
+            throw new IOException("Corrupted journal segment: " + path);
+        }
+        return segment;
+    }
+
+    /**
+     * Appends the record.
+     *
+     * @param record the record, from its position to its limit.
+     * @return false if there is not enough space left in the segment.
+     */
+    public synchronized boolean append(ByteBuffer record) {
+        int length = record.remaining();
+        if ((long) end + Integer.BYTES + length > buffer.capacity()) {
+            return false;
+        }
+        buffer.putInt(end, length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(end + Integer.BYTES);
+        target.put(record.duplicate());
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count] = end;
+        setEnd(count + 1, end + Integer.BYTES + length);
+        return true;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Returns the record with the given index.
+     *
+     * @param index the index, in the order the records were appended.
+     * @return the record.
+     */
+    public synchronized JournalRecord get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+        int offset = offsets[index] + Integer.BYTES;
+        ByteBuffer record = buffer.asReadOnlyBuffer();
+        record.limit(offset + buffer.getInt(offsets[index]));
+        record.position(offset);
+        return JournalRecord.read(record);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void setEnd(int count, int end) {
+        this.count = count;
+        this.end = end;
+        buffer.putInt(END_OFFSET, end);
+        buffer.putInt(COUNT_OFFSET, count);
+    }
+}
@@ -69,7 +69,7 @@ public enum Action {
     /**
      * Move to the land with the given id.
      */
-    MOVE_TO(List.of(MoveTo.class, MoveGetOrPay.class, MoveAndTakeover.class)),
+    MOVE_TO(List.of(MoveTo.class, MoveGetOrPay.class, MoveAndTakeover.class, OptionMoveTo.class)),
     /**
      * New turn, the player starts a new turn with this card.
      */
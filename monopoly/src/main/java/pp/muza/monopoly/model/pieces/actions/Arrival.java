@@ -1,16 +1,13 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Land;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.Turn;
@@ -34,6 +31,7 @@ import pp.muza.monopoly.model.Turn;
 public class Arrival extends BaseActionCard {
 
     private static final Logger LOG = LoggerFactory.getLogger(Arrival.class);
+    private static final CardCache<Arrival> CACHE = new CardCache<>(CardCache.POSITIONS, Arrival::new);
 
     protected final int position;
 
@@ -43,38 +41,39 @@ public class Arrival extends BaseActionCard {
     }
 
     public static ActionCard create(int position) {
-        return new Arrival(position);
+        return CACHE.get(position);
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
+    protected void onExecute(Turn turn, CardSink sink) {
         Land land = turn.getLand(position);
-        List<ActionCard> result;
         switch (land.getType()) {
             case PROPERTY:
                 Player owner = turn.getPropertyOwner(position);
                 if (owner == null) {
                     LOG.info("No one owns the {}, {} can purchase it", land, turn.getPlayer());
-                    result = ImmutableList.of(new Buy(position));
+                    sink.add(Buy.create(position));
                 } else if (owner != turn.getPlayer()) {
                     LOG.info("Player {} is obligated to pay rent to {} for {}", turn.getPlayer(), owner, land);
-                    result = ImmutableList.of(new PayRent(turn.getRent(position), owner, position));
+                    sink.add(new PayRent(turn.getRent(position), owner, position));
                 } else {
                     LOG.info("Property {} is owned by player, nothing to do", land);
-                    result = ImmutableList.of();
                 }
                 break;
             case GOTO_JAIL:
-                result = ImmutableList.of(new GoToJail());
+                sink.add(GoToJail.create());
                 break;
             case CHANCE:
-                result = ImmutableList.of(turn.popFortuneCard());
+                sink.add(turn.popFortuneCard());
                 break;
             default:
-                result = ImmutableList.of();
                 break;
         }
-        return result;
+    }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
     }
 
 }
@@ -1,5 +1,6 @@
 package pp.muza.monopoly.model.pieces.actions;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -12,6 +13,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
+import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -35,6 +38,13 @@ public abstract class BaseActionCard implements ActionCard {
     public static final int LOW_PRIORITY = 10000;
     public static final int IDLE_PRIORITY = 100000;
     private static final Logger LOG = LoggerFactory.getLogger(BaseActionCard.class);
+    private static final long KEY_SEED = 0x3c6ef372fe94f82bL;
+    private static final ClassValue<String> NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getSimpleName();
+        }
+    };
 
     private final String name;
     private final Action action;
@@ -46,12 +56,37 @@ public abstract class BaseActionCard implements ActionCard {
     protected BaseActionCard(Action action, ActionType type, int priority) {
         assert action.getClassList().contains(this.getClass())
                 : "Action " + action + " is not supported by " + this.getClass();
-        this.name = this.getClass().getSimpleName();
+        this.name = NAMES.get(this.getClass());
         this.action = action;
         this.type = type;
         this.priority = priority;
     }
 
+    /**
+     * Mixes the value into the key of a card, see {@link #stateKey()}.
+     *
+     * @param key   the key.
+     * @param value the value of a field.
+     * @return the new key.
+     */
+    protected static long mix(long key, int value) {
+        long z = (key ^ (value & 0xffffffffL)) + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Mixes the player, keyed by their name, into the key of a card.
+     *
+     * @param key    the key.
+     * @param player the player, or null.
+     * @return the new key.
+     */
+    protected static long mix(long key, Player player) {
+        return mix(key, player == null ? 0 : player.getName().hashCode());
+    }
+
     static Map<String, Object> mergeMaps(Map<String, Object> map1, Map<String, Object> map2) {
         Map<String, Object> result = new LinkedHashMap<>(map1);
         map2.forEach((key, value) -> result.merge(key, value, (v1, v2) -> v2));
@@ -61,12 +96,26 @@ public abstract class BaseActionCard implements ActionCard {
     /**
      * Execute the action card.
      * This method is called when the card is playing.
-     * Should be overridden by the subclasses.
+     * Subclasses should override either this method or {@link #onExecute(Turn, CardSink)}.
      *
      * @param turn the turn of the game.
      * @return list of action cards spawned by the action card.
+     * @throws IllegalStateException if the subclass overrides neither method.
      */
-    protected abstract List<ActionCard> onExecute(Turn turn);
+    protected List<ActionCard> onExecute(Turn turn) {
+        throw new IllegalStateException("Card " + name + " overrides neither onExecute method");
+    }
+
+    /**
+     * Execute the action card, writing spawned cards to the sink.
+     * Subclasses should override either this method or {@link #onExecute(Turn)}.
+     *
+     * @param turn the turn of the game.
+     * @param sink receives action cards spawned by the action card.
+     */
+    protected void onExecute(Turn turn, CardSink sink) {
+        sink.addAll(onExecute(turn));
+    }
 
     /**
      * Execute the action card. This method is called by the game engine.
@@ -76,11 +125,35 @@ public abstract class BaseActionCard implements ActionCard {
      */
     public final List<ActionCard> play(Turn turn) {
         LOG.debug("Executing card {} for player {}", this, turn.getPlayer());
-        List<ActionCard> result = this.onExecute(turn);
+        List<ActionCard> result = new ArrayList<>();
+        this.onExecute(turn, result::add);
         LOG.debug("Resulting: {}", result);
         return result;
     }
 
+    /**
+     * Execute the action card without building a list of spawned cards. This
+     * method is called by the game engine.
+     *
+     * @param turn the turn of the game.
+     * @param sink receives action cards spawned by the action card.
+     */
+    public final void play(Turn turn, CardSink sink) {
+        LOG.debug("Executing card {} for player {}", this, turn.getPlayer());
+        this.onExecute(turn, sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Subclasses with fields in equals mix them into the key of the superclass.
+     * </p>
+     */
+    @Override
+    public long stateKey() {
+        return mix(mix(mix(KEY_SEED, name.hashCode()), action.ordinal()), type.ordinal());
+    }
+
     /**
      * Get parameters of the action card.
      *
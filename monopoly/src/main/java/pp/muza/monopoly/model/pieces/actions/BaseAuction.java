@@ -40,4 +40,9 @@ public abstract class BaseAuction extends BaseActionCard implements Offer {
     public Offer bid(int price) {
         throw new UnsupportedOperationException("Opening bid is not supported for the action: " + this);
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
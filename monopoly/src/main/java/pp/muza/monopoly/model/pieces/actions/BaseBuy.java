@@ -38,4 +38,9 @@ public abstract class BaseBuy extends BaseActionCard {
                 super.params(),
                 ImmutableMap.of("position", position));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
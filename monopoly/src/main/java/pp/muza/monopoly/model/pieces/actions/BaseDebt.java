@@ -11,7 +11,6 @@ import com.google.common.collect.ImmutableMap;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import pp.muza.monopoly.errors.BankException;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
@@ -75,10 +74,9 @@ public abstract class BaseDebt extends BaseActionCard {
         List<ActionCard> result;
         try {
             check(turn);
-            try {
-                turn.withdraw(value);
+            if (turn.tryWithdraw(value).isOk()) {
                 result = onSuccess(turn);
-            } catch (BankException e) {
+            } else {
                 LOG.warn("Player {} cannot pay the debt.", turn.getPlayer());
                 result = onFailure(turn);
             }
@@ -95,4 +93,9 @@ public abstract class BaseDebt extends BaseActionCard {
                 super.params(),
                 ImmutableMap.of("value", value));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), value);
+    }
 }
@@ -59,4 +59,9 @@ public abstract class BasePayment extends BaseDebt {
                 super.params(),
                 ImmutableMap.of("recipient", recipient));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), recipient);
+    }
 }
@@ -11,6 +11,7 @@ import com.google.common.collect.ImmutableMap;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
@@ -42,8 +43,12 @@ public final class Bid extends BaseActionCard implements Offer, SyncCard {
 
     @Override
     protected List<ActionCard> onExecute(Turn turn) {
+        Result result = turn.tryBid(position, price);
+        if (!result.isOk()) {
+            LOG.warn("Bid failed: {}", result);
+            return ImmutableList.of(this);
+        }
         try {
-            turn.doBid(position, price);
             turn.sendCard(turn.getPropertyOwner(position), new Submit(turn.getPlayer(), position, price));
         } catch (TurnException e) {
             LOG.warn("Bid failed: {}", e.getMessage());
@@ -75,4 +80,9 @@ public final class Bid extends BaseActionCard implements Offer, SyncCard {
                 super.params(),
                 ImmutableMap.of("position", position, "price", price));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.errors.BankException;
+import pp.muza.monopoly.errors.Result;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.errors.UnexpectedErrorException;
 import pp.muza.monopoly.model.ActionCard;
@@ -29,6 +30,8 @@ import pp.muza.monopoly.model.Turn;
 @EqualsAndHashCode(callSuper = true)
 public class Buy extends BaseBuy {
 
+    private static final CardCache<Buy> CACHE = new CardCache<>(CardCache.POSITIONS, Buy::new);
+
     protected Buy(ActionType type, int priority, int position) {
         super(type, priority, position);
     }
@@ -38,7 +41,7 @@ public class Buy extends BaseBuy {
     }
 
     public static ActionCard create(int position) {
-        return new Buy(position);
+        return CACHE.get(position);
     }
 
     @Override
@@ -49,7 +52,13 @@ public class Buy extends BaseBuy {
             Player salePlayer = turn.getPropertyOwner(position);
             if (salePlayer == null) {
                 LOG.debug("Buying property {} from the bank.", position);
-                turn.buyProperty(position);
+                Result bought = turn.tryBuyProperty(position);
+                if (!bought.isOk()) {
+                    LOG.info("Player cannot buy property: {}", bought);
+                    result = ImmutableList.<ActionCard>builder().add(this)
+                            .addAll(CardUtils.sellDebts(turn)).build();
+                    finished = true;
+                }
             } else {
                 LOG.debug("Buying property {} from player {}.", position, salePlayer);
                 turn.tradeProperty(salePlayer, position);
@@ -0,0 +1,42 @@
+package pp.muza.monopoly.model.pieces.actions;
+
+import java.util.function.IntFunction;
+
+import pp.muza.monopoly.model.ActionCard;
+
+/**
+ * Canonical instances of an immutable card with a single int parameter.
+ * <p>
+ * Cards for parameters in {@code [0, size)} are created once; other parameters
+ * fall back to the factory.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class CardCache<T extends ActionCard> {
+
+    /**
+     * Enough for any position on the bundled boards.
+     */
+    static final int POSITIONS = 64;
+    /**
+     * Enough for any roll of two dice.
+     */
+    static final int DISTANCES = 13;
+
+    private final ActionCard[] cards;
+    private final IntFunction<T> factory;
+
+    CardCache(int size, IntFunction<T> factory) {
+        this.cards = new ActionCard[size];
+        this.factory = factory;
+        for (int i = 0; i < size; i++) {
+            cards[i] = factory.apply(i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int key) {
+        return key >= 0 && key < cards.length ? (T) cards[key] : factory.apply(key);
+    }
+}
@@ -1,6 +1,5 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -14,10 +13,10 @@ import pp.muza.monopoly.consts.Constants;
 import pp.muza.monopoly.consts.RuleOption;
 import pp.muza.monopoly.consts.RuleOptionValue;
 import pp.muza.monopoly.model.ActionCard;
-import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.Turn;
-import pp.muza.monopoly.model.pieces.lands.LandType;
 import pp.muza.monopoly.model.pieces.lands.Start;
 import pp.muza.stuff.IndexedEntry;
 
@@ -28,14 +27,12 @@ final class CardUtils {
     /**
      * creates a list of action cards when a player moves to a new land.
      */
-    static List<ActionCard> onPath(Turn turn, List<Land> path) {
-        List<ActionCard> res;
-        res = new ArrayList<>();
-        path.stream().filter(land -> land.getType() == LandType.START).findFirst().ifPresent(land -> {
+    static void onPath(Turn turn, Transition transition, CardSink sink) {
+        if (transition.passesStart()) {
             LOG.info("Player {} has to get income due to start", turn.getPlayer());
-            res.add(new GoReward(((Start) land).getIncomeTax()));
-        });
-        return res;
+            Start start = (Start) turn.getLand(transition.getStart());
+            sink.add(new GoReward(start.getIncomeTax()));
+        }
     }
 
     static List<ActionCard> sellDebts(Turn turn) {
@@ -71,4 +71,9 @@ public class Contract extends BaseActionCard {
                 super.params(),
                 ImmutableMap.of("position", position, "price", price));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(mix(super.stateKey(), position), price);
+    }
 }
@@ -24,6 +24,8 @@ import pp.muza.monopoly.model.Turn;
 @EqualsAndHashCode(callSuper = true)
 public final class EndTurn extends BaseActionCard {
 
+    private static final EndTurn INSTANCE = new EndTurn();
+
     private static final Logger LOG = LoggerFactory.getLogger(EndTurn.class);
 
     EndTurn() {
@@ -31,7 +33,7 @@ public final class EndTurn extends BaseActionCard {
     }
 
     public static ActionCard create() {
-        return new EndTurn();
+        return INSTANCE;
     }
 
     @Override
@@ -77,7 +77,7 @@ public final class FortuneCard extends BaseActionCard implements Fortune {
                 // it.
                 // If all are owned, the recipient can buy one from any player.
                 turn.sendCard(recipient, new SpawnMoveAndTakeover());
-                turn.sendCard(recipient, new EndTurn());
+                turn.sendCard(recipient, EndTurn.create());
             } catch (TurnException e) {
                 throw new UnexpectedErrorException("Error sending gift card to " + recipient, e);
             }
@@ -125,7 +125,7 @@ public final class FortuneCard extends BaseActionCard implements Fortune {
                 result.add(new Tax(Constants.LUXURY_TAX_AMOUNT));
                 break;
             case ADVANCE_TO_GO:
-                result.add(new MoveTo(turn.getStartPos()));
+                result.add(MoveTo.create(turn.getStartPos()));
                 break;
             case MOVE_FORWARD_ONE_SPACE:
                 result.add(new OptionMove(1));
@@ -186,4 +186,9 @@ public final class FortuneCard extends BaseActionCard implements Fortune {
                 super.params(),
                 ImmutableMap.of("chance", chance.name()));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), chance.ordinal());
+    }
 }
\ No newline at end of file
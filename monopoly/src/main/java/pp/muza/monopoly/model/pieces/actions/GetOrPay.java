@@ -1,15 +1,12 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Land;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.Turn;
@@ -38,25 +35,21 @@ public final class GetOrPay extends Arrival {
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
+    protected void onExecute(Turn turn, CardSink sink) {
         Land land = turn.getLand(position);
-        List<ActionCard> result;
         if (land.getType() == LandType.PROPERTY) {
             Player owner = turn.getPropertyOwner(position);
             if (owner == null) {
                 LOG.info("Player {} is getting property {} for free.", turn.getPlayer(), land);
-                result = ImmutableList.of(new OwnershipPrivilege(position));
+                sink.add(new OwnershipPrivilege(position));
             } else if (owner != turn.getPlayer()) {
                 LOG.info("Player {} is obligated to pay rent to {} for {}", turn.getPlayer(), owner, land);
-                result = ImmutableList.of(new PayRent(turn.getRent(position), owner, position));
+                sink.add(new PayRent(turn.getRent(position), owner, position));
             } else {
                 LOG.info("Property {} is owned by player, nothing to do", land);
-                result = ImmutableList.of();
             }
         } else {
             LOG.warn("Land {} is not a property, nothing to do", land);
-            result = ImmutableList.of();
         }
-        return result;
     }
 }
@@ -1,18 +1,15 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.errors.UnexpectedErrorException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -24,6 +21,8 @@ import pp.muza.monopoly.model.Turn;
 @EqualsAndHashCode(callSuper = true)
 public final class GoToJail extends BaseActionCard {
 
+    private static final GoToJail INSTANCE = new GoToJail();
+
     private static final Logger LOG = LoggerFactory.getLogger(GoToJail.class);
 
     GoToJail() {
@@ -31,16 +30,16 @@ public final class GoToJail extends BaseActionCard {
     }
 
     public static ActionCard create() {
-        return new GoToJail();
+        return INSTANCE;
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
+    protected void onExecute(Turn turn, CardSink sink) {
         try {
             turn.setPlayerInJail();
         } catch (TurnException e) {
             throw new UnexpectedErrorException("Error during executing the action: " + this, e);
         }
-        return ImmutableList.of(new EndTurn());
+        sink.add(EndTurn.create());
     }
 }
@@ -62,4 +62,9 @@ public class Income extends BaseActionCard {
                 ImmutableMap.of("value", value)
         );
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), value);
+    }
 }
@@ -1,12 +1,10 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.EqualsAndHashCode;
@@ -15,7 +13,8 @@ import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.errors.UnexpectedErrorException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
-import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.CardSink;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -29,6 +28,7 @@ import pp.muza.monopoly.model.Turn;
 public class Move extends BaseActionCard {
 
     private static final Logger LOG = LoggerFactory.getLogger(Move.class);
+    private static final CardCache<Move> CACHE = new CardCache<>(CardCache.DISTANCES, Move::new);
 
     protected final int distance;
 
@@ -42,7 +42,7 @@ public class Move extends BaseActionCard {
     }
 
     public static ActionCard create(int distance) {
-        return new Move(distance);
+        return CACHE.get(distance);
     }
 
     /**
@@ -53,37 +53,31 @@ public class Move extends BaseActionCard {
      *
      * @param turn     the current turn
      * @param position the new location on the board.
-     * @return the action cards to execute after the player arrives at the new
-     *         location.
+     * @param sink     receives the action cards to execute after the player
+     *                 arrives at the new location.
      */
     @SuppressWarnings("unused")
-    protected List<ActionCard> onArrival(Turn turn, int position) {
-        return ImmutableList.of(new Arrival(position));
+    protected void onArrival(Turn turn, int position, CardSink sink) {
+        sink.add(Arrival.create(position));
     }
 
     @Override
-    protected final List<ActionCard> onExecute(Turn turn) {
-        List<ActionCard> result;
+    protected final void onExecute(Turn turn, CardSink sink) {
         if (distance <= 0) {
             LOG.warn("Distance must be positive");
-            result = ImmutableList.of();
         } else {
-            int position = turn.nextPosition(distance);
-            LOG.info("{}: advancing by {} steps to {} ({})", turn.getPlayer(), distance, position,
-                    turn.getLand(position));
-            List<Land> path;
+            Transition transition;
             try {
-                path = turn.moveTo(position);
+                transition = turn.advance(distance);
             } catch (TurnException e) {
                 throw new UnexpectedErrorException("Error during executing the action: " + this, e);
             }
-            assert path.size() == distance;
-            result = ImmutableList.<ActionCard>builder()
-                    .addAll(CardUtils.onPath(turn, path))
-                    .addAll(onArrival(turn, position))
-                    .build();
+            int position = transition.getTo();
+            LOG.info("{}: advancing by {} steps to {} ({})", turn.getPlayer(), distance, position,
+                    turn.getLand(position));
+            CardUtils.onPath(turn, transition, sink);
+            onArrival(turn, position, sink);
         }
-        return result;
     }
 
     @Override
@@ -93,4 +87,9 @@ public class Move extends BaseActionCard {
                 ImmutableMap.of("distance", distance));
     }
 
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), distance);
+    }
+
 }
@@ -1,13 +1,10 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -29,7 +26,8 @@ public final class MoveAndTakeover extends MoveTo {
     }
 
     @Override
-    protected List<ActionCard> onArrival(Turn turn) {
-        return ImmutableList.of(new Takeover(position), new EndTurn());
+    protected void onArrival(Turn turn, CardSink sink) {
+        sink.add(new Takeover(position));
+        sink.add(EndTurn.create());
     }
 }
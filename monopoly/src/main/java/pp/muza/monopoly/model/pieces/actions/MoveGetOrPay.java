@@ -1,13 +1,10 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -29,8 +26,8 @@ public final class MoveGetOrPay extends MoveTo {
     }
 
     @Override
-    protected List<ActionCard> onArrival(Turn turn) {
-        return ImmutableList.of(new GetOrPay(position));
+    protected void onArrival(Turn turn, CardSink sink) {
+        sink.add(new GetOrPay(position));
     }
 
 }
@@ -1,12 +1,10 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.EqualsAndHashCode;
@@ -15,7 +13,8 @@ import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.errors.UnexpectedErrorException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
-import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.CardSink;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -28,6 +27,7 @@ import pp.muza.monopoly.model.Turn;
 public class MoveTo extends BaseActionCard {
 
     private static final Logger LOG = LoggerFactory.getLogger(MoveTo.class);
+    private static final CardCache<MoveTo> CACHE = new CardCache<>(CardCache.POSITIONS, MoveTo::new);
 
     protected final int position;
 
@@ -41,7 +41,7 @@ public class MoveTo extends BaseActionCard {
     }
 
     public static ActionCard create(int position) {
-        return new MoveTo(position);
+        return CACHE.get(position);
     }
 
     /**
@@ -51,28 +51,26 @@ public class MoveTo extends BaseActionCard {
      * </p>
      *
      * @param turn the current turn
-     * @return the action cards to execute after the player arrives at the new
-     *         location.
+     * @param sink receives the action cards to execute after the player arrives
+     *             at the new location.
      */
-    protected List<ActionCard> onArrival(Turn turn) {
-        return ImmutableList.of(new Arrival(position));
+    protected void onArrival(Turn turn, CardSink sink) {
+        sink.add(Arrival.create(position));
     }
 
     @Override
-    protected final List<ActionCard> onExecute(Turn turn) {
-        List<Land> path;
+    protected final void onExecute(Turn turn, CardSink sink) {
+        Transition transition;
         try {
-            path = turn.moveTo(position);
+            transition = turn.advanceTo(position);
         } catch (TurnException e) {
             throw new UnexpectedErrorException("Error during executing the action: " + this, e);
         }
-        if (path.isEmpty()) {
+        if (transition.getDistance() == 0) {
             LOG.warn("Staying on the same land");
         }
-        return ImmutableList.<ActionCard>builder()
-                .addAll(CardUtils.onPath(turn, path))
-                .addAll(onArrival(turn))
-                .build();
+        CardUtils.onPath(turn, transition, sink);
+        onArrival(turn, sink);
     }
 
     @Override
@@ -81,4 +79,9 @@ public class MoveTo extends BaseActionCard {
                 super.params(),
                 ImmutableMap.of("position", position));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
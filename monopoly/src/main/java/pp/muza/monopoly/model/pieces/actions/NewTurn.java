@@ -1,13 +1,10 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.PlayerStatus;
 import pp.muza.monopoly.model.Turn;
 
@@ -20,30 +17,30 @@ import pp.muza.monopoly.model.Turn;
 @EqualsAndHashCode(callSuper = true)
 public final class NewTurn extends BaseActionCard {
 
+    private static final NewTurn INSTANCE = new NewTurn();
+
     NewTurn() {
         super(Action.NEW_TURN, ActionType.OBLIGATION, NEW_TURN_PRIORITY);
     }
 
     public static ActionCard create() {
-        return new NewTurn();
+        return INSTANCE;
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
+    protected void onExecute(Turn turn, CardSink sink) {
         PlayerStatus status = turn.getPlayerStatus();
-        List<ActionCard> result;
         switch (status) {
             case IN_GAME:
-                result = ImmutableList.of(new RollDice(), new EndTurn());
+                sink.add(RollDice.create());
                 break;
             case IN_JAIL:
-                result = ImmutableList.of(new JailFine(turn.getJailFine()), new EndTurn());
+                sink.add(new JailFine(turn.getJailFine()));
                 break;
             default:
                 assert false : "Unexpected status: " + status;
-                result = ImmutableList.of(new EndTurn());
                 break;
         }
-        return result;
+        sink.add(EndTurn.create());
     }
 }
@@ -51,4 +51,9 @@ public final class PayRent extends BasePayment {
                 super.params(),
                 Map.of("position", position));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
@@ -40,27 +40,28 @@ public class PromoteAuction extends BaseAuction implements SyncCard {
     @Override
     protected List<ActionCard> onExecute(Turn turn) {
         // initiate auction
+        if (price <= 0) {
+            // consider this as a pass
+            LOG.warn("PromoteAuction failed: {}", GameError.PLAYER_MUST_SET_PRICE_FOR_AUCTION);
+            return ImmutableList.of();
+        }
         try {
-            if (price > 0) {
-                LOG.info("Promote an auction for property {} with price {}", position, price);
-                turn.auction(position, price);
-                Player seller = turn.getPlayer();
-                for (Player bidder : turn.getPlayers()) {
-                    // Sending an auction invitation to all players.
-                    if (bidder != seller && !turn.getPlayerStatus(bidder).isFinal()) {
-                        try {
-                            turn.sendCard(bidder, new Bid(position, price));
-                            turn.sendCard(bidder, new EndTurn());
-                        } catch (TurnException e) {
-                            throw new UnexpectedErrorException("Error while sending invitation to player {}" + bidder,
-                                    e);
-                        }
+            LOG.info("Promote an auction for property {} with price {}", position, price);
+            turn.auction(position, price);
+            Player seller = turn.getPlayer();
+            for (Player bidder : turn.getPlayers()) {
+                // Sending an auction invitation to all players.
+                if (bidder != seller && !turn.getPlayerStatus(bidder).isFinal()) {
+                    try {
+                        turn.sendCard(bidder, new Bid(position, price));
+                        turn.sendCard(bidder, EndTurn.create());
+                    } catch (TurnException e) {
+                        throw new UnexpectedErrorException("Error while sending invitation to player {}" + bidder,
+                                e);
                     }
                 }
-                turn.holdTurn();
-            } else {
-                throw new TurnException(GameError.PLAYER_MUST_SET_PRICE_FOR_AUCTION);
             }
+            turn.holdTurn();
             return ImmutableList.of(new EndAuction(position, price));
         } catch (TurnException e) {
             // consider this as a pass
@@ -42,4 +42,9 @@ public class ReceiveMoney extends Income {
                 super.params(),
                 ImmutableMap.of("sender", sender));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), sender);
+    }
 }
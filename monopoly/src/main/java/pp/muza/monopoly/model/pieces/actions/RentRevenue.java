@@ -38,4 +38,9 @@ public final class RentRevenue extends ReceiveMoney {
                 super.params(),
                 ImmutableMap.of("position", position));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), position);
+    }
 }
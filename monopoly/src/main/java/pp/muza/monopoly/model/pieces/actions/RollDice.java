@@ -1,16 +1,13 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Turn;
 
 /**
@@ -22,6 +19,8 @@ import pp.muza.monopoly.model.Turn;
 @EqualsAndHashCode(callSuper = true)
 public final class RollDice extends BaseActionCard {
 
+    private static final RollDice INSTANCE = new RollDice();
+
     private static final Logger LOG = LoggerFactory.getLogger(RollDice.class);
 
     RollDice() {
@@ -29,13 +28,13 @@ public final class RollDice extends BaseActionCard {
     }
 
     public static ActionCard create() {
-        return new RollDice();
+        return INSTANCE;
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
-        int dice = (int) (Math.random() * 6) + 1;
+    protected void onExecute(Turn turn, CardSink sink) {
+        int dice = turn.getRandom().nextInt(6) + 1;
         LOG.info("{} rolled {}", turn.getPlayer(), dice);
-        return ImmutableList.of(new Move(dice));
+        sink.add(Move.create(dice));
     }
 }
@@ -67,4 +67,9 @@ public final class Sale extends Contract {
                 super.params(),
                 ImmutableMap.of("buyer", buyer));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(super.stateKey(), buyer);
+    }
 }
@@ -40,8 +40,7 @@ public final class SpawnMoveAndTakeover extends BaseActionCard {
         if (properties.isEmpty()) {
             // if there are no free properties, the player has to choose one of the
             // properties he does not own
-            properties = turn.getAllProperties().stream()
-                    .filter(x -> turn.getPropertyOwner(x.getIndex()) != turn.getPlayer()).collect(Collectors.toList());
+            properties = turn.getNotOwnedProperties();
         }
         return properties.stream().map(x -> new MoveAndTakeover(x.getIndex())).collect(Collectors.toList());
     }
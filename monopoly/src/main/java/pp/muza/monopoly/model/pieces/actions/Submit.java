@@ -55,4 +55,9 @@ public final class Submit extends BaseActionCard implements Biding {
                 super.params(),
                 ImmutableMap.of("bidder", bidder, "position", position, "price", price));
     }
+
+    @Override
+    public long stateKey() {
+        return mix(mix(super.stateKey(), bidder), position);
+    }
 }
@@ -1,15 +1,12 @@
 package pp.muza.monopoly.model.pieces.actions;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.CardSink;
 import pp.muza.monopoly.model.Land;
 import pp.muza.monopoly.model.Player;
 import pp.muza.monopoly.model.Turn;
@@ -40,22 +37,18 @@ public final class Takeover extends Arrival {
     }
 
     @Override
-    protected List<ActionCard> onExecute(Turn turn) {
+    protected void onExecute(Turn turn, CardSink sink) {
         Land land = turn.getLand(position);
-        List<ActionCard> result;
         if (land.getType() == LandType.PROPERTY) {
             Player owner = turn.getPropertyOwner(position);
             if (owner != turn.getPlayer()) {
                 LOG.info("Player {} is buying property {}.", turn.getPlayer(), land);
-                result = ImmutableList.of(new Buy(position));
+                sink.add(Buy.create(position));
             } else {
                 LOG.info("Property {} is owned by player, nothing to do", land);
-                result = ImmutableList.of();
             }
         } else {
             LOG.warn("Land {} is not a property, nothing to do", land);
-            result = ImmutableList.of();
         }
-        return result;
     }
 }
@@ -0,0 +1,98 @@
+package pp.muza.monopoly.model.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import pp.muza.monopoly.model.RandomSource;
+
+/**
+ * SplitMix64 generator, the algorithm behind {@link java.util.SplittableRandom}.
+ * <p>
+ * The class is not thread-safe; every game and every worker is expected to use
+ * its own instance, obtained by seeding or by {@link #split()}.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class RandomSourceImpl implements RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long gamma;
+    private long seed;
+
+    /**
+     * Creates a source with an arbitrary seed.
+     */
+    public RandomSourceImpl() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a source with the given seed.
+     *
+     * @param seed the seed.
+     */
+    public RandomSourceImpl(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private RandomSourceImpl(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // rejection sampling to avoid the modulo bias
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            // retry
+        }
+        return r;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public RandomSource split() {
+        return new RandomSourceImpl(nextLong(), mixGamma(nextSeed()));
+    }
+
+    @Override
+    public RandomSource copy() {
+        return new RandomSourceImpl(seed, gamma);
+    }
+}
@@ -0,0 +1,31 @@
+package pp.muza.monopoly.model.simulation;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+import pp.muza.monopoly.model.PlayerStatus;
+
+/**
+ * The outcome of a single simulated game.
+ * <p>
+ * Seats are numbered in the order the players were given to the game.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+@Value
+@Builder
+public class GameOutcome {
+
+    /**
+     * The winner value used when several players share the highest balance.
+     */
+    public static final int DRAW = -1;
+
+    long seed;
+    int turns;
+    int winner;
+    List<Integer> balances;
+    List<PlayerStatus> statuses;
+}
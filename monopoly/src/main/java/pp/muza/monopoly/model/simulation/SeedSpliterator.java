@@ -0,0 +1,81 @@
+package pp.muza.monopoly.model.simulation;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over a half-open range of game seeds.
+ * <p>
+ * The range is split in halves, so every worker of a fork-join pool gets its own
+ * contiguous block of seeds.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class SeedSpliterator implements Spliterator.OfLong {
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private long from;
+    private final long to;
+
+    /**
+     * Creates a spliterator over seeds from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param from the first seed.
+     * @param to   the seed after the last one.
+     */
+    SeedSpliterator(long from, long to) {
+        if (to < from) {
+            throw new IllegalArgumentException("Invalid seed range: " + from + ".." + to);
+        }
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public OfLong trySplit() {
+        long size = to - from;
+        if (size < 2) {
+            return null;
+        }
+        long mid = from + size / 2;
+        SeedSpliterator prefix = new SeedSpliterator(from, mid);
+        from = mid;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (from < to) {
+            action.accept(from++);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        long end = to;
+        for (long seed = from; seed < end; seed++) {
+            action.accept(seed);
+        }
+        from = end;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+}
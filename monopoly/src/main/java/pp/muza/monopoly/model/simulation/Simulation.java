@@ -0,0 +1,181 @@
+package pp.muza.monopoly.model.simulation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import pp.muza.monopoly.consts.Constants;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.errors.UnexpectedErrorException;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GamePool;
+import pp.muza.monopoly.model.game.GameRunner;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.journal.GameJournal;
+import pp.muza.monopoly.model.journal.JournalSegment;
+
+/**
+ * Monte Carlo simulation of many independent games.
+ * <p>
+ * Every game of the batch is identified by its seed. The seed range is split by
+ * {@link SeedSpliterator} between the workers of a fork-join pool, each game is
+ * played on a {@link Monopoly} instance reset from a {@link GamePool}, and the
+ * outcomes are merged into a {@link SimulationResult}. A game is fully
+ * determined by its seed, so the result of a batch does not depend on the
+ * parallelism.
+ * </p>
+ * <p>
+ * Strategies are shared between the workers, so they must be thread-safe.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public final class Simulation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Simulation.class);
+
+    private final List<Player> players;
+    private final Map<Player, Strategy> strategies;
+    private final int maxTurns;
+    private final GamePool games = new GamePool();
+    private volatile JournalSegment journal;
+
+    /**
+     * Creates a simulation.
+     *
+     * @param playerCount the number of players in each game.
+     * @param strategies  the strategy for every seat.
+     */
+    public Simulation(int playerCount, List<Strategy> strategies) {
+        this(playerCount, strategies, Constants.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a simulation.
+     *
+     * @param playerCount the number of players in each game.
+     * @param strategies  the strategy for every seat.
+     * @param maxTurns    the number of turns after which a game is stopped.
+     */
+    public Simulation(int playerCount, List<Strategy> strategies, int maxTurns) {
+        if (playerCount < Constants.MIN_PLAYERS || playerCount > Constants.MAX_PLAYERS) {
+            throw new IllegalArgumentException(String.format("Number of players must be between %s and %s",
+                    Constants.MIN_PLAYERS, Constants.MAX_PLAYERS));
+        }
+        if (strategies.size() != playerCount) {
+            throw new IllegalArgumentException("Expected " + playerCount + " strategies, got " + strategies.size());
+        }
+        this.players = IntStream.range(0, playerCount)
+                .mapToObj(i -> new Player("Player" + (i + 1)))
+                .collect(ImmutableList.toImmutableList());
+        ImmutableMap.Builder<Player, Strategy> seats = ImmutableMap.builder();
+        for (int seat = 0; seat < playerCount; seat++) {
+            seats.put(this.players.get(seat), strategies.get(seat));
+        }
+        this.strategies = seats.build();
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Sets the segment to record the played games to, so that any of them can be
+     * rebuilt with {@link pp.muza.monopoly.model.journal.GameReplayer}.
+     *
+     * @param journal the segment, or null to stop recording.
+     */
+    public void setJournal(JournalSegment journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Plays the games of the given seed range in the common fork-join pool.
+     *
+     * @param fromSeed the first seed (inclusive).
+     * @param toSeed   the last seed (exclusive).
+     * @return the merged outcomes.
+     */
+    public SimulationResult run(long fromSeed, long toSeed) {
+        return StreamSupport.longStream(new SeedSpliterator(fromSeed, toSeed), true)
+                .collect(() -> new SimulationResult(players.size()),
+                        (result, seed) -> result.add(play(seed)),
+                        SimulationResult::merge);
+    }
+
+    /**
+     * Plays the games of the given seed range in a dedicated fork-join pool.
+     *
+     * @param fromSeed    the first seed (inclusive).
+     * @param toSeed      the last seed (exclusive).
+     * @param parallelism the number of worker threads.
+     * @return the merged outcomes.
+     */
+    public SimulationResult run(long fromSeed, long toSeed, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> run(fromSeed, toSeed)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game.
+     *
+     * @param seed the game's seed.
+     * @return the outcome of the game.
+     */
+    public GameOutcome play(long seed) {
+        Monopoly game = games.acquire(seed, players);
+        JournalSegment segment = journal;
+        GameJournal recorder = segment == null ? null : new GameJournal(game, seed);
+        try {
+            new GameRunner(game, strategies).maxTurns(maxTurns).run();
+        } catch (GameException | TurnException e) {
+            throw new UnexpectedErrorException("Error while simulating game " + seed, e);
+        }
+        if (recorder != null && !segment.append(recorder.finish())) {
+            LOG.warn("The journal is full, game {} is not recorded", seed);
+        }
+        GameOutcome outcome = outcome(seed, game);
+        games.release(game);
+        LOG.debug("Game {} finished: {}", seed, outcome);
+        return outcome;
+    }
+
+    private GameOutcome outcome(long seed, Monopoly game) {
+        List<Integer> balances = players.stream().map(game::getBalance).collect(Collectors.toUnmodifiableList());
+        List<PlayerStatus> statuses = players.stream().map(game::getPlayerStatus).collect(Collectors.toUnmodifiableList());
+        int winner = GameOutcome.DRAW;
+        int best = Integer.MIN_VALUE;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (statuses.get(seat).isFinal()) {
+                continue;
+            }
+            int balance = balances.get(seat);
+            if (balance > best) {
+                best = balance;
+                winner = seat;
+            } else if (balance == best) {
+                winner = GameOutcome.DRAW;
+            }
+        }
+        return GameOutcome.builder()
+                .seed(seed)
+                .turns(game.getTurnNumber())
+                .winner(winner)
+                .balances(balances)
+                .statuses(statuses)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package pp.muza.monopoly.model.simulation;
+
+import java.util.Arrays;
+
+import lombok.EqualsAndHashCode;
+import pp.muza.monopoly.model.PlayerStatus;
+
+/**
+ * Merged outcomes of a batch of simulated games.
+ * <p>
+ * The result only keeps counters, so merging partial results is associative and
+ * commutative: the merged result does not depend on how the seed range was split
+ * between the workers.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+@EqualsAndHashCode
+public final class SimulationResult {
+
+    private final long[] wins;
+    private final long[] eliminations;
+    private long games;
+    private long draws;
+    private long turns;
+
+    SimulationResult(int seats) {
+        this.wins = new long[seats];
+        this.eliminations = new long[seats];
+    }
+
+    void add(GameOutcome outcome) {
+        games++;
+        turns += outcome.getTurns();
+        if (outcome.getWinner() == GameOutcome.DRAW) {
+            draws++;
+        } else {
+            wins[outcome.getWinner()]++;
+        }
+        for (int seat = 0; seat < eliminations.length; seat++) {
+            if (outcome.getStatuses().get(seat) == PlayerStatus.OUT_OF_GAME) {
+                eliminations[seat]++;
+            }
+        }
+    }
+
+    void merge(SimulationResult other) {
+        if (other.wins.length != wins.length) {
+            throw new IllegalArgumentException("Cannot merge results with different number of seats");
+        }
+        games += other.games;
+        draws += other.draws;
+        turns += other.turns;
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+            eliminations[seat] += other.eliminations[seat];
+        }
+    }
+
+    /**
+     * Returns the number of simulated games.
+     *
+     * @return the number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games without a single winner.
+     *
+     * @return the number of draws.
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Returns the total number of turns played in all games.
+     *
+     * @return the number of turns.
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the number of games won by the given seat.
+     *
+     * @param seat the seat index.
+     * @return the number of wins.
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Returns the number of games in which the given seat went out of the game.
+     *
+     * @param seat the seat index.
+     * @return the number of eliminations.
+     */
+    public long getEliminations(int seat) {
+        return eliminations[seat];
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of seats.
+     */
+    public int getSeats() {
+        return wins.length;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult(games=" + games
+                + ", draws=" + draws
+                + ", turns=" + turns
+                + ", wins=" + Arrays.toString(wins)
+                + ", eliminations=" + Arrays.toString(eliminations)
+                + ")";
+    }
+}
@@ -10,7 +10,9 @@ import pp.muza.monopoly.data.TurnInfo;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.Board;
 import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.RandomSource;
 import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
 
 /**
  * @author dmytromuza
@@ -20,12 +22,46 @@ public class DefaultStrategy implements Strategy {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStrategy.class);
     private static final DefaultStrategy STRATEGY = new DefaultStrategy();
 
+    /**
+     * The source of the choices made without the game's source. The shared
+     * instance may be called from several threads, so access is synchronized.
+     */
+    private final RandomSource random;
+
+    /**
+     * Creates a strategy with an arbitrary seed.
+     */
+    public DefaultStrategy() {
+        this(new RandomSourceImpl());
+    }
+
+    /**
+     * Creates a strategy whose choices made without the game's source are
+     * reproducible.
+     *
+     * @param seed the seed.
+     */
+    public DefaultStrategy(long seed) {
+        this(new RandomSourceImpl(seed));
+    }
+
+    private DefaultStrategy(RandomSource random) {
+        this.random = random;
+    }
+
     public static Strategy getInstance() {
         return STRATEGY;
     }
 
     @Override
     public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo) {
+        synchronized (random) {
+            return playTurn(board, players, turnInfo, random);
+        }
+    }
+
+    @Override
+    public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo, RandomSource random) {
         List<ActionCard> cards = turnInfo.getActiveCards();
         LOG.info("Active cards: {}", cards.stream().map(ActionCard::getName).collect(Collectors.toList()));
         // TODO: implement a better strategy
@@ -39,8 +75,11 @@ public class DefaultStrategy implements Strategy {
         // if there are OptionMove cards, chose the one which is better to the player's
         // current situation;
 
-        int random = (int) (Math.random() * cards.size());
-        LOG.debug("Random card: {}", random);
-        return !cards.isEmpty() ? cards.get(random) : null;
+        if (cards.isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(cards.size());
+        LOG.debug("Random card: {}", index);
+        return cards.get(index);
     }
 }
@@ -0,0 +1,454 @@
+package pp.muza.monopoly.strategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.errors.UnexpectedErrorException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.Fortune;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.BaseTurn;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.pieces.actions.Action;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
+
+/**
+ * Depth-limited expectiminimax over the players' choices of cards.
+ * <p>
+ * The strategy is bound to the game it plays and searches copies of it (see
+ * {@link Monopoly#fork(RandomSource)}), reverting every move with
+ * {@link Monopoly#undo(int)}. The player maximizes their share of the wealth and
+ * the opponents are assumed to minimize it. Rolling the dice is a chance node of
+ * the six outcomes, and drawing a fortune card is a chance node of the chances
+ * left in the deck, weighted by their number of cards. The depth counts the
+ * decisions and the chance nodes; forced cards are played without consuming it.
+ * The deck is treated as unordered, so a turn that keeps drawing is cut at the
+ * limit of steps per turn.
+ * </p>
+ * <p>
+ * The search deepens iteratively until the time budget is spent and plays the
+ * best option of the deepest completed iteration. Additional threads search the
+ * same position in a different order of the options and share their results
+ * through the transposition table, which is keyed by the state hash, the active
+ * cards and the searching player, and is kept between decisions.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public class ExpectiminimaxStrategy implements Strategy, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExpectiminimaxStrategy.class);
+
+    private static final int DICE = 6;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final Chance[] CHANCES = Chance.values();
+
+    private final Monopoly game;
+    private RandomSource random = new RandomSourceImpl();
+    private long timeBudget = Duration.ofMillis(100).toNanos();
+    private int maxDepth = 64;
+    private TranspositionTable table = new TranspositionTable(1 << 20);
+    private Worker[] workers = {new Worker(0)};
+    private ExecutorService executor;
+    private int[] prices;
+    private int maxTurns;
+    private volatile boolean stopped;
+
+    /**
+     * Creates a single-threaded strategy for the players of the game.
+     *
+     * @param game the game the strategy plays.
+     */
+    public ExpectiminimaxStrategy(Monopoly game) {
+        this.game = game;
+    }
+
+    /**
+     * Sets the seed of the source used when the game's source is not passed.
+     *
+     * @param seed the seed.
+     * @return this strategy.
+     */
+    public ExpectiminimaxStrategy seed(long seed) {
+        this.random = new RandomSourceImpl(seed);
+        return this;
+    }
+
+    /**
+     * Sets the time spent on a decision. The first iteration is always completed.
+     *
+     * @param timeBudget the time.
+     * @return this strategy.
+     */
+    public ExpectiminimaxStrategy timeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the depth at which the deepening stops before the time budget is spent.
+     *
+     * @param maxDepth the depth, at most 65534.
+     * @return this strategy.
+     */
+    public ExpectiminimaxStrategy maxDepth(int maxDepth) {
+        if (maxDepth < 1 || maxDepth > TranspositionTable.MAX_DEPTH) {
+            throw new IllegalArgumentException(
+                    "Depth must be between 1 and " + TranspositionTable.MAX_DEPTH + ": " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Sets the number of entries of the transposition table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two.
+     * @return this strategy.
+     */
+    public ExpectiminimaxStrategy tableCapacity(int capacity) {
+        this.table = new TranspositionTable(capacity);
+        return this;
+    }
+
+    /**
+     * Sets the number of threads searching each decision.
+     *
+     * @param threads the number of threads.
+     * @return this strategy.
+     */
+    public ExpectiminimaxStrategy threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+        close();
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(i);
+        }
+        if (threads > 1) {
+            executor = Executors.newFixedThreadPool(threads - 1, runnable -> {
+                Thread thread = new Thread(runnable, "expectiminimax");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Stops the helper threads.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo) {
+        return playTurn(board, players, turnInfo, random);
+    }
+
+    @Override
+    public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo, RandomSource random) {
+        List<ActionCard> options = SearchSupport.options(turnInfo.getActiveCards());
+        if (options.size() == 1) {
+            return options.get(0);
+        }
+        if (prices == null) {
+            prices = SearchSupport.prices(game.getBoard());
+            maxTurns = game.getGameInfo().getMaxTurns();
+        }
+        Player player = turnInfo.getPlayerInfo().getPlayer();
+        long deadline = System.nanoTime() + timeBudget;
+        for (Worker worker : workers) {
+            worker.prepare(player, turnInfo.getStepNumber(), random.nextLong(), deadline);
+        }
+        stopped = false;
+        List<Future<Integer>> helpers = new ArrayList<>();
+        if (executor != null) {
+            for (int i = 1; i < workers.length; i++) {
+                Worker worker = workers[i];
+                helpers.add(executor.submit((Callable<Integer>) worker::search));
+            }
+        }
+        int best;
+        try {
+            best = workers[0].search();
+        } finally {
+            stopped = true;
+        }
+        try {
+            for (Future<Integer> helper : helpers) {
+                helper.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnexpectedErrorException("Search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new UnexpectedErrorException("Search failed", e.getCause());
+        }
+        LOG.debug("Options: {}, best: {}", options, best);
+        return options.get(best);
+    }
+
+    /**
+     * Thrown to abandon an iteration when the time is over.
+     */
+    private static final class Timeout extends RuntimeException {
+        private static final Timeout INSTANCE = new Timeout();
+
+        private Timeout() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Random source of the searched copy, which rolls the dice set by the search.
+     */
+    private static final class Dice implements RandomSource {
+        private final RandomSource random;
+        private int roll = -1;
+
+        Dice(RandomSource random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            int result = roll;
+            roll = -1;
+            return result >= 0 && result < bound ? result : random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public RandomSource split() {
+            return random.split();
+        }
+
+        @Override
+        public RandomSource copy() {
+            return new Dice(random.copy());
+        }
+    }
+
+    /**
+     * Searches a copy of the game.
+     */
+    private final class Worker {
+        private final int offset;
+        private Monopoly fork;
+        private Dice dice;
+        private List<Player> players;
+        private double[] shares;
+        private int root;
+        private long rootKey;
+        private long deadline;
+        private int horizon;
+        private int nodes;
+        private boolean timed;
+        private int best;
+        private int steps;
+
+        Worker(int offset) {
+            this.offset = offset;
+        }
+
+        void prepare(Player player, int steps, long seed, long deadline) {
+            this.dice = new Dice(new RandomSourceImpl(seed));
+            this.fork = game.fork(dice);
+            this.players = fork.getPlayers();
+            this.shares = new double[players.size()];
+            this.root = players.indexOf(player);
+            this.rootKey = (root + 1) * 0xc2b2ae3d27d4eb4fL;
+            this.deadline = deadline;
+            this.horizon = maxTurns;
+            this.steps = steps;
+        }
+
+        /**
+         * Deepens the search until the time is over and returns the best option
+         * of the deepest completed iteration.
+         */
+        int search() {
+            int mark = fork.mark();
+            int result = 0;
+            try {
+                PlayTurn turn = fork.getTurn();
+                List<ActionCard> options = SearchSupport.options(fork.getActiveCards(turn.getPlayer()));
+                long key = key(turn);
+                for (int depth = 1; depth <= maxDepth; depth++) {
+                    timed = depth > 1;
+                    try {
+                        decide(turn, options, depth, key, table.probe(key), steps);
+                    } catch (Timeout e) {
+                        fork.undo(mark);
+                        break;
+                    }
+                    result = best;
+                    if (stopped && offset > 0) {
+                        break;
+                    }
+                }
+            } catch (GameException | TurnException e) {
+                throw new UnexpectedErrorException("Error in the search", e);
+            } finally {
+                fork = null;
+            }
+            return result;
+        }
+
+        private long key(PlayTurn turn) {
+            return SearchSupport.key(fork, turn.getPlayer()) ^ rootKey;
+        }
+
+        /**
+         * Returns the value of the current state, in which the turn has made the steps.
+         */
+        private double value(PlayTurn turn, int depth, int steps) throws GameException, TurnException {
+            if (timed && ++nodes % TIME_CHECK_INTERVAL == 0 && (stopped || System.nanoTime() > deadline)) {
+                throw Timeout.INSTANCE;
+            }
+            if (turn.isFinished()) {
+                if (!fork.isGameInProgress() || fork.getTurnNumber() >= horizon) {
+                    return evaluate();
+                }
+                turn = fork.getTurn();
+                steps = 0;
+            }
+            if (depth <= 0 || !fork.isGameInProgress() || steps >= BaseTurn.MAX_STEPS_PER_TURN) {
+                return evaluate();
+            }
+            List<ActionCard> options = SearchSupport.options(fork.getActiveCards(turn.getPlayer()));
+            if (options.size() == 1) {
+                double value = play(turn, options.get(0), depth, steps);
+                return Double.isNaN(value) ? evaluate() : value;
+            }
+            long key = key(turn);
+            long data = table.probe(key);
+            if (data != TranspositionTable.MISS && TranspositionTable.depth(data) >= depth) {
+                return TranspositionTable.value(data);
+            }
+            return decide(turn, options, depth, key, data, steps);
+        }
+
+        /**
+         * Returns the value of the best option for the player of the turn and
+         * remembers the option in the table and in {@link #best}.
+         */
+        private double decide(PlayTurn turn, List<ActionCard> options, int depth, long key, long data, int steps)
+                throws GameException, TurnException {
+            boolean max = players.indexOf(turn.getPlayer()) == root;
+            int size = options.size();
+            int first = data != TranspositionTable.MISS ? TranspositionTable.best(data) % size : 0;
+            int result = first;
+            double bestValue = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int k = 0; k < size; k++) {
+                // the best option known first, then the others rotated by the worker's offset
+                int i = k == 0 ? first : (first + 1 + (k - 1 + offset) % (size - 1)) % size;
+                double value = play(turn, options.get(i), depth - 1, steps);
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                if (max ? value > bestValue : value < bestValue) {
+                    bestValue = value;
+                    result = i;
+                }
+            }
+            if (Double.isInfinite(bestValue)) {
+                bestValue = evaluate();
+            }
+            table.store(key, bestValue, depth, result);
+            best = result;
+            return bestValue;
+        }
+
+        /**
+         * Plays the card, or ends the turn for null, and returns the value of the
+         * result, or NaN if the card was not played.
+         */
+        private double play(PlayTurn turn, ActionCard card, int depth, int steps) throws GameException, TurnException {
+            if (card != null && card.getAction() == Action.ROLL_DICE) {
+                double sum = 0;
+                for (int roll = 0; roll < DICE; roll++) {
+                    int mark = fork.mark();
+                    dice.roll = roll;
+                    turn.playCard(card);
+                    sum += value(turn, depth - 1, steps + 1);
+                    fork.undo(mark);
+                }
+                return sum / DICE;
+            }
+            List<Fortune> deck = fork.getFortuneCards();
+            int size = deck.size();
+            long key = SearchSupport.key(fork, turn.getPlayer());
+            int mark = fork.mark();
+            playOrEnd(turn, card);
+            if (!turn.isFinished() && SearchSupport.key(fork, turn.getPlayer()) == key) {
+                fork.undo(mark);
+                return Double.NaN;
+            }
+            if (deck.size() != size - 1) {
+                double value = value(turn, depth, steps + 1);
+                fork.undo(mark);
+                return value;
+            }
+            // a fortune card was drawn: weight every chance left in the deck
+            fork.undo(mark);
+            int[] weights = new int[CHANCES.length];
+            for (Fortune fortune : deck) {
+                weights[fortune.getChance().ordinal()]++;
+            }
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] == 0) {
+                    continue;
+                }
+                mark = fork.mark();
+                fork.putFortuneCardOnTop(CHANCES[i]);
+                playOrEnd(turn, card);
+                sum += weights[i] * value(turn, depth - 1, steps + 1);
+                fork.undo(mark);
+            }
+            return sum / size;
+        }
+
+        private void playOrEnd(PlayTurn turn, ActionCard card) throws TurnException {
+            if (card != null) {
+                turn.playCard(card);
+            } else {
+                turn.endTurn();
+            }
+        }
+
+        private double evaluate() {
+            SearchSupport.shares(fork, players, prices, shares);
+            return shares[root];
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package pp.muza.monopoly.strategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.errors.UnexpectedErrorException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
+
+/**
+ * Monte Carlo tree search over the players' choices of cards.
+ * <p>
+ * The strategy is bound to the game it plays. For every decision with more than
+ * one option each worker plays random games forward from its own copy of the
+ * current state (see {@link Monopoly#fork(long)}), reverting the copy after each
+ * playout, and grows a tree of decision states keyed by
+ * {@link Monopoly#getStateHash()}. Every decision state is chosen by its own
+ * player using UCT on their share of the wealth at the end of the playout.
+ * The workers' visit counts of the root options are summed, and the most visited
+ * option is played. A worker keeps its tree between decisions and continues from
+ * the node of the new state when it has one.
+ * </p>
+ * <p>
+ * Ending the turn is an option when none of the active cards is mandatory. The
+ * playouts see the fortune deck in its actual order.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+public class MctsStrategy implements Strategy, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MctsStrategy.class);
+
+    private static final double EXPLORATION = 1.4;
+    private static final int MAX_NODES = 1 << 16;
+
+    private final Monopoly game;
+    private RandomSource random = new RandomSourceImpl();
+    private int iterations = 1000;
+    private long timeBudget;
+    private int depth = 20;
+    private Worker[] workers = {new Worker()};
+    private ExecutorService executor;
+    private int[] prices;
+    private int maxTurns;
+    private int[] visits;
+
+    /**
+     * Creates a single-threaded strategy for the players of the game.
+     *
+     * @param game the game the strategy plays.
+     */
+    public MctsStrategy(Monopoly game) {
+        this.game = game;
+    }
+
+    /**
+     * Sets the number of playouts per decision, shared by the workers.
+     *
+     * @param iterations the number of playouts, or 0 for no limit.
+     * @return this strategy.
+     */
+    public MctsStrategy iterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the source used when the game's source is not passed.
+     *
+     * @param seed the seed.
+     * @return this strategy.
+     */
+    public MctsStrategy seed(long seed) {
+        this.random = new RandomSourceImpl(seed);
+        return this;
+    }
+
+    /**
+     * Sets the time spent on a decision.
+     *
+     * @param timeBudget the time, or {@link Duration#ZERO} for no limit.
+     * @return this strategy.
+     */
+    public MctsStrategy timeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the number of turns a playout looks ahead.
+     *
+     * @param depth the number of turns.
+     * @return this strategy.
+     */
+    public MctsStrategy depth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads, each of which searches its own tree.
+     *
+     * @param threads the number of threads.
+     * @return this strategy.
+     */
+    public MctsStrategy threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+        close();
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+        }
+        if (threads > 1) {
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "mcts");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo) {
+        return playTurn(board, players, turnInfo, random);
+    }
+
+    @Override
+    public ActionCard playTurn(Board board, List<Player> players, TurnInfo turnInfo, RandomSource random) {
+        List<ActionCard> options = SearchSupport.options(turnInfo.getActiveCards());
+        if (options.size() == 1) {
+            return options.get(0);
+        }
+        if (prices == null) {
+            prices = SearchSupport.prices(game.getBoard());
+            maxTurns = game.getGameInfo().getMaxTurns();
+        }
+        if (iterations <= 0 && timeBudget <= 0) {
+            throw new IllegalStateException("Neither iterations nor time budget is set");
+        }
+        Player player = turnInfo.getPlayerInfo().getPlayer();
+        long hash = game.getStateHash();
+        int horizon = Math.min(game.getTurnNumber() + depth, maxTurns);
+        long deadline = timeBudget > 0 ? System.nanoTime() + timeBudget : Long.MAX_VALUE;
+        int share = iterations > 0 ? (iterations + workers.length - 1) / workers.length : Integer.MAX_VALUE;
+        for (Worker worker : workers) {
+            worker.prepare(game.fork(random.nextLong()), random.nextLong(), player, hash, options, horizon);
+        }
+        if (executor == null) {
+            workers[0].search(share, deadline);
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(workers.length);
+            for (Worker worker : workers) {
+                tasks.add(() -> {
+                    worker.search(share, deadline);
+                    return null;
+                });
+            }
+            try {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UnexpectedErrorException("Search interrupted", e);
+            } catch (ExecutionException e) {
+                throw new UnexpectedErrorException("Search failed", e.getCause());
+            }
+        }
+        visits = new int[options.size()];
+        for (Worker worker : workers) {
+            worker.collect(visits);
+        }
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        LOG.debug("Options: {}, visits: {}", options, visits);
+        return options.get(best);
+    }
+
+    /**
+     * Returns the visits of the options of the last decision, summed over the workers.
+     *
+     * @return the visits, or null before the first search.
+     */
+    int[] getVisits() {
+        return visits;
+    }
+
+    /**
+     * A decision state of the tree and the statistics of its options.
+     */
+    private static final class Node {
+        final int player;
+        final List<ActionCard> options;
+        final int[] visits;
+        final double[] rewards;
+        int total;
+
+        Node(int player, List<ActionCard> options) {
+            this.player = player;
+            this.options = options;
+            this.visits = new int[options.size()];
+            this.rewards = new double[options.size()];
+        }
+    }
+
+    /**
+     * Searches its own tree on its own copy of the game.
+     */
+    private final class Worker {
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private final List<Node> pathNodes = new ArrayList<>();
+        private final List<Integer> pathOptions = new ArrayList<>();
+        private Monopoly fork;
+        private RandomSource random;
+        private List<Player> players;
+        private double[] reward;
+        private Node root;
+        private int horizon;
+
+        void prepare(Monopoly fork, long seed, Player player, long hash, List<ActionCard> options, int horizon) {
+            this.fork = fork;
+            this.random = new RandomSourceImpl(seed);
+            this.players = fork.getPlayers();
+            this.reward = new double[players.size()];
+            this.horizon = horizon;
+            root = nodes.get(hash);
+            if (root == null || !root.options.equals(options) || nodes.size() > MAX_NODES) {
+                nodes.clear();
+                root = new Node(players.indexOf(player), options);
+                nodes.put(hash, root);
+            }
+        }
+
+        void search(int iterations, long deadline) {
+            int mark = fork.mark();
+            try {
+                for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                    playout();
+                    fork.undo(mark);
+                }
+            } catch (GameException | TurnException e) {
+                throw new UnexpectedErrorException("Error in a playout", e);
+            }
+            fork = null;
+        }
+
+        void collect(int[] visits) {
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += root.visits[i];
+            }
+        }
+
+        private void playout() throws GameException, TurnException {
+            pathNodes.clear();
+            pathOptions.clear();
+            Node node = root;
+            boolean expanded = false;
+            PlayTurn turn = fork.getTurn();
+            while (fork.isGameInProgress()) {
+                if (turn.isFinished()) {
+                    if (fork.getTurnNumber() >= horizon) {
+                        break;
+                    }
+                    turn = fork.getTurn();
+                }
+                turn.playForcedCards();
+                if (turn.isFinished()) {
+                    continue;
+                }
+                List<ActionCard> options = SearchSupport.options(fork.getActiveCards(turn.getPlayer()));
+                if (node == null && !expanded && options.size() > 1) {
+                    long hash = fork.getStateHash();
+                    node = nodes.get(hash);
+                    if (node == null || !node.options.equals(options)) {
+                        node = new Node(players.indexOf(turn.getPlayer()), options);
+                        nodes.put(hash, node);
+                        expanded = true;
+                    }
+                }
+                int option;
+                if (node != null) {
+                    option = select(node);
+                    pathNodes.add(node);
+                    pathOptions.add(option);
+                    node = null;
+                } else {
+                    option = random.nextInt(options.size());
+                }
+                ActionCard card = options.get(option);
+                if (card != null) {
+                    long key = SearchSupport.key(fork, turn.getPlayer());
+                    turn.playCard(card);
+                    if (!turn.isFinished() && SearchSupport.key(fork, turn.getPlayer()) == key) {
+                        // the card was not played, playing on would only repeat it
+                        break;
+                    }
+                } else {
+                    turn.endTurn();
+                }
+            }
+            SearchSupport.shares(fork, players, prices, reward);
+            for (int i = 0; i < pathNodes.size(); i++) {
+                Node pathNode = pathNodes.get(i);
+                int option = pathOptions.get(i);
+                pathNode.total++;
+                pathNode.visits[option]++;
+                pathNode.rewards[option] += reward[pathNode.player];
+            }
+        }
+
+        /**
+         * Returns the unvisited option, if any, otherwise the option with the best upper confidence bound.
+         */
+        private int select(Node node) {
+            int size = node.visits.length;
+            int offset = random.nextInt(size);
+            int best = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double log = Math.log(node.total);
+            for (int k = 0; k < size; k++) {
+                int i = (offset + k) % size;
+                if (node.visits[i] == 0) {
+                    return i;
+                }
+                double value = node.rewards[i] / node.visits[i]
+                        + EXPLORATION * Math.sqrt(log / node.visits[i]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package pp.muza.monopoly.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.PlayGame;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Property;
+import pp.muza.stuff.IndexedEntry;
+
+/**
+ * The options and the evaluation shared by the search strategies.
+ *
+ * @author dmytromuza
+ */
+final class SearchSupport {
+
+    private SearchSupport() {
+    }
+
+    /**
+     * Returns the active cards, and null for ending the turn if none of them is mandatory.
+     */
+    static List<ActionCard> options(List<ActionCard> cards) {
+        List<ActionCard> options = new ArrayList<>(cards.size() + 1);
+        boolean mandatory = false;
+        for (ActionCard card : cards) {
+            options.add(card);
+            mandatory |= card.getType().isMandatory();
+        }
+        if (!mandatory) {
+            options.add(null);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the hash of the state and the player's active cards. A card that
+     * leaves it unchanged was not played, e.g. a keepable card without effect now.
+     */
+    static long key(PlayGame game, Player player) {
+        return game.getStateHash() ^ game.getActiveCards(player).hashCode() * 0x9e3779b97f4a7c15L;
+    }
+
+    /**
+     * Returns the price of the property at every position, 0 for other lands.
+     */
+    static int[] prices(Board board) {
+        int[] result = new int[board.size()];
+        for (IndexedEntry<Property> entry : board.getProperties()) {
+            result[entry.getIndex()] = entry.getValue().getPrice();
+        }
+        return result;
+    }
+
+    /**
+     * Sets every player's share of the total wealth, i.e. the balance and the price
+     * of the properties of the players still in the game.
+     *
+     * @param game    the game.
+     * @param players the players of the game.
+     * @param prices  the prices, see {@link #prices(Board)}.
+     * @param shares  the shares by the players' indexes.
+     */
+    static void shares(PlayGame game, List<Player> players, int[] prices, double[] shares) {
+        Arrays.fill(shares, 0);
+        for (Map.Entry<Integer, Player> entry : game.getPropertyOwners().entrySet()) {
+            shares[players.indexOf(entry.getValue())] += prices[entry.getKey()];
+        }
+        double total = 0;
+        for (int i = 0; i < shares.length; i++) {
+            Player player = players.get(i);
+            if (game.getPlayerStatus(player).isFinal()) {
+                shares[i] = 0;
+            } else {
+                shares[i] += game.getBalance(player);
+            }
+            total += shares[i];
+        }
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = total > 0 ? shares[i] / total : 1.0 / shares.length;
+        }
+    }
+}
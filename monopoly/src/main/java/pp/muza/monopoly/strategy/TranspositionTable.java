@@ -0,0 +1,111 @@
+package pp.muza.monopoly.strategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of searched values shared by threads without locks.
+ * <p>
+ * An entry is two longs: the key XOR the data, and the data, which packs the
+ * value, the searched depth and the best option. A reader accepts the entry only
+ * if the first long XOR the second gives its key, so an entry torn by concurrent
+ * writers reads as a miss. A new entry replaces the old one unless both have the
+ * same key and the old one was searched deeper.
+ * </p>
+ *
+ * @author dmytromuza
+ */
+final class TranspositionTable {
+
+    /**
+     * The data returned for a missing entry.
+     */
+    static final long MISS = 0;
+    /**
+     * The deepest depth an entry can hold; the depth plus one and the best option
+     * are packed in 16 bits each.
+     */
+    static final int MAX_DEPTH = 0xfffe;
+    static final int MAX_OPTION = 0xffff;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two.
+     */
+    TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new AtomicLongArray(size * 2);
+        this.mask = size - 1;
+    }
+
+    static double value(long data) {
+        return Float.intBitsToFloat((int) (data >>> 32));
+    }
+
+    static int depth(long data) {
+        return (int) (data >>> 16 & 0xffff) - 1;
+    }
+
+    static int best(long data) {
+        return (int) (data & 0xffff);
+    }
+
+    /**
+     * Returns the data of the key, or {@link #MISS}.
+     */
+    long probe(long key) {
+        int slot = slot(key);
+        long data = entries.get(slot + 1);
+        return (entries.get(slot) ^ data) == key ? data : MISS;
+    }
+
+    /**
+     * Packs the value, the depth and the best option into the data of an entry.
+     *
+     * @throws IllegalArgumentException if the depth or the option does not fit.
+     */
+    static long pack(double value, int depth, int best) {
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Invalid depth: " + depth);
+        }
+        if (best < 0 || best > MAX_OPTION) {
+            throw new IllegalArgumentException("Invalid option: " + best);
+        }
+        return (long) Float.floatToRawIntBits((float) value) << 32 | (long) (depth + 1) << 16 | best;
+    }
+
+    void store(long key, double value, int depth, int best) {
+        long data = pack(value, depth, best);
+        int slot = slot(key);
+        long old = entries.get(slot + 1);
+        if ((entries.get(slot) ^ old) == key && old != MISS && depth(old) > depth) {
+            return;
+        }
+        set(slot, key ^ data, data);
+    }
+
+    /**
+     * for testing: writes the two longs of the key's slot, e.g. as left by two racing writers
+     */
+    void write(long key, long first, long second) {
+        set(slot(key), first, second);
+    }
+
+    private void set(int slot, long first, long second) {
+        entries.set(slot, first);
+        entries.set(slot + 1, second);
+    }
+
+    private int slot(long key) {
+        return ((int) (key ^ key >>> 32) & mask) * 2;
+    }
+}
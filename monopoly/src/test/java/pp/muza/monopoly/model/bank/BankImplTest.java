@@ -0,0 +1,68 @@
+package pp.muza.monopoly.model.bank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.errors.BankException;
+import pp.muza.monopoly.errors.GameError;
+import pp.muza.monopoly.errors.Result;
+import pp.muza.monopoly.model.Player;
+
+class BankImplTest {
+
+    private final Player player1 = new Player("player1");
+    private final Player player2 = new Player("player2");
+    private final Player player3 = new Player("player3");
+
+    @Test
+    void transfer() {
+        BankImpl bank = new BankImpl(List.of(player1, player2));
+        bank.set(player1, 10);
+        assertEquals(Result.OK, bank.transfer(player1, player2, 7));
+        assertEquals(Result.of(GameError.NOT_ENOUGH_COINS), bank.transfer(player1, player2, 7));
+        assertEquals(3, bank.getBalance(player1));
+        assertEquals(7, bank.getBalance(player2));
+    }
+
+    @Test
+    void settle() {
+        BankImpl bank = new BankImpl(List.of(player1, player2, player3));
+        bank.set(player2, 5);
+        bank.set(player3, 2);
+        assertEquals(Result.of(GameError.NOT_ENOUGH_COINS), bank.settle(List.of(player2, player3), player1, 3));
+        assertEquals(0, bank.getBalance(player1));
+        assertEquals(5, bank.getBalance(player2));
+        assertEquals(Result.OK, bank.settle(List.of(player2, player3), player1, 2));
+        assertEquals(4, bank.getBalance(player1));
+        assertEquals(3, bank.getBalance(player2));
+        assertEquals(0, bank.getBalance(player3));
+    }
+
+    @Test
+    void settleRejectsRepeatedPayers() {
+        BankImpl bank = new BankImpl(List.of(player1, player2, player3));
+        bank.set(player1, 3);
+        bank.set(player2, 3);
+        assertThrows(IllegalArgumentException.class, () -> bank.settle(List.of(player2, player2), player1, 2));
+        assertThrows(IllegalArgumentException.class, () -> bank.settle(List.of(player1, player2), player1, 2));
+        assertEquals(3, bank.getBalance(player1));
+        assertEquals(3, bank.getBalance(player2));
+    }
+
+    @Test
+    void audit() throws BankException {
+        BankImpl bank = new BankImpl(List.of(player1, player2));
+        BankAudit audit = new BankAudit(2);
+        bank.setAudit(audit);
+        bank.deposit(player1, 10);
+        bank.transfer(player1, player2, 4);
+        bank.withdraw(player2, 1);
+        assertEquals(3, audit.getCount());
+        assertEquals(List.of(new AuditEntry(player1, player2, 4), new AuditEntry(player2, null, 1)),
+                audit.getEntries());
+    }
+}
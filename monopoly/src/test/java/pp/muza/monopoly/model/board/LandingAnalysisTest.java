@@ -0,0 +1,97 @@
+package pp.muza.monopoly.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.consts.Constants;
+import pp.muza.monopoly.model.Asset;
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.BoardLayout;
+import pp.muza.monopoly.model.pieces.lands.BaseProperty;
+import pp.muza.monopoly.model.pieces.lands.GotoJail;
+import pp.muza.monopoly.model.pieces.lands.Jail;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+import pp.muza.monopoly.model.pieces.lands.Start;
+
+class LandingAnalysisTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final Board board = BoardLayout.defaultBoard();
+    private final LandingAnalysis analysis = LandingAnalysis.of(board);
+
+    @Test
+    void cachedPerBoard() {
+        assertSame(analysis, LandingAnalysis.of(BoardLayout.defaultBoard()));
+    }
+
+    @Test
+    void probabilities() {
+        int states = analysis.getJailState() + 1;
+        double total = 0;
+        for (int from = 0; from < states; from++) {
+            double row = 0;
+            for (int to = 0; to < states; to++) {
+                row += analysis.getTransition(from, to);
+            }
+            assertEquals(1, row, DELTA);
+            total += analysis.getStationary(from);
+        }
+        assertEquals(1, total, DELTA);
+        int gotoJail = board.getPositions(LandType.GOTO_JAIL).get(0);
+        assertEquals(0, analysis.getStationary(gotoJail), DELTA);
+        // every arrival at GOTO_JAIL ends the turn in jail
+        assertEquals(analysis.getLandingProbability(gotoJail), analysis.getStationary(analysis.getJailState()), DELTA);
+        assertEquals(1.0, analysis.getTransition(analysis.getJailState(), board.getJailPosition()), DELTA);
+    }
+
+    @Test
+    void expectedRent() {
+        int mayfair = board.getPosition(Asset.MAYFAIR);
+        double rent = analysis.getExpectedRent(Asset.MAYFAIR, false);
+        assertTrue(rent > 0);
+        assertEquals(2 * rent, analysis.getExpectedRent(Asset.MAYFAIR, true), DELTA);
+        // Mayfair is also a destination of the fortune cards
+        assertTrue(analysis.getLandingProbability(mayfair)
+                > analysis.getLandingProbability(board.getPosition(Asset.PARK_LANE)));
+        assertTrue(analysis.getStartPassRate() > 0);
+    }
+
+    /**
+     * On a board of seven lands every roll of one die arrives at one of the six
+     * other lands. With GOTO_JAIL at 5 and the jail at 3, the stationary
+     * distribution solves pi(q) = (T - pi(q)) / 6 plus pi(jail state) for q = 3,
+     * where T = 6 / 7 is the share of the positions and pi(jail state) = T / 6.
+     */
+    @Test
+    void smallBoard() {
+        Board small = new BoardImpl(List.of(
+                new Start(Constants.START_BONUS),
+                new BaseProperty(Asset.COFFEE_SHOP),
+                new BaseProperty(Asset.DONUT_SHOP),
+                new Jail(Constants.JAIL_FINE),
+                new BaseProperty(Asset.BAKERY),
+                new GotoJail(),
+                new BaseProperty(Asset.MAYFAIR)));
+        LandingAnalysis result = LandingAnalysis.of(small);
+        double[] stationary = {6, 6, 6, 12, 6, 0, 6, 7};
+        double[] landing = {6, 6, 6, 5, 6, 7, 6};
+        for (int state = 0; state < stationary.length; state++) {
+            assertEquals(stationary[state] / 49, result.getStationary(state), DELTA);
+        }
+        for (int position = 0; position < landing.length; position++) {
+            assertEquals(landing[position] / 49, result.getLandingProbability(position), DELTA);
+        }
+        // from position s, the rolls 7 - s to 6 pass START
+        assertEquals(19.0 / 49, result.getStartPassRate(), DELTA);
+        assertEquals(6.0 / 49 * Asset.MAYFAIR.getPrice(), result.getExpectedRent(Asset.MAYFAIR, false), DELTA);
+        assertThrows(NoSuchElementException.class, () -> result.getExpectedRent(Asset.PARK_LANE, false));
+    }
+}
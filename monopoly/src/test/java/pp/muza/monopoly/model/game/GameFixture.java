@@ -0,0 +1,78 @@
+package pp.muza.monopoly.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.PlayGame;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.RandomSource;
+
+/**
+ * Games and assertions shared by the tests of the game's state.
+ */
+public final class GameFixture {
+
+    public static final Player PLAYER1 = new Player("player1");
+    public static final Player PLAYER2 = new Player("player2");
+    public static final List<Player> PLAYERS = ImmutableList.of(PLAYER1, PLAYER2);
+
+    private GameFixture() {
+    }
+
+    /**
+     * Returns a started game of {@link #PLAYERS}.
+     *
+     * @param seed the seed of the game.
+     * @return the game.
+     */
+    public static Monopoly startedGame(long seed) throws GameException {
+        Monopoly game = new Monopoly(PLAYERS, seed);
+        game.start();
+        return game;
+    }
+
+    /**
+     * Plays random cards from the turn's random source until the game has made the
+     * number of turns, or is over.
+     *
+     * @param game  the started game.
+     * @param turns the number of turns.
+     */
+    public static void playRandomly(PlayGame game, int turns) throws GameException, TurnException {
+        int last = game.getTurnNumber() + turns;
+        while (game.isGameInProgress() && game.getTurnNumber() < last) {
+            PlayTurn turn = game.getTurn();
+            RandomSource random = turn.getRandom();
+            while (!turn.isFinished()) {
+                List<ActionCard> cards = turn.getTurnInfo().getActiveCards();
+                if (cards.isEmpty()) {
+                    turn.endTurn();
+                } else {
+                    turn.playCard(cards.get(random.nextInt(cards.size())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that the games are at the same turn, with the same players' states
+     * and owners of the properties.
+     *
+     * @param expected the expected game.
+     * @param actual   the actual game.
+     */
+    public static void assertSameState(PlayGame expected, PlayGame actual) {
+        assertEquals(expected.getTurnNumber(), actual.getTurnNumber());
+        for (Player player : expected.getPlayers()) {
+            assertEquals(expected.getPlayerInfo(player), actual.getPlayerInfo(player));
+        }
+        assertEquals(expected.getPropertyOwners(), actual.getPropertyOwners());
+    }
+}
@@ -0,0 +1,66 @@
+package pp.muza.monopoly.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.strategy.ObedientStrategy;
+
+class GameRunnerTest {
+
+    private final Player player1 = new Player("player1");
+    private final Player player2 = new Player("player2");
+    private final List<Player> players = ImmutableList.of(player1, player2);
+    private final Map<Player, Strategy> strategies = ImmutableMap.of(
+            player1, ObedientStrategy.getInstance(),
+            player2, ObedientStrategy.getInstance());
+
+    @Test
+    void run() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 7);
+        List<TurnInfo> turns = new ArrayList<>();
+        int played = new GameRunner(game, strategies)
+                .maxTurns(30)
+                .addTurnCollector((g, turnInfo) -> turns.add(turnInfo))
+                .run();
+        assertEquals(played, turns.size());
+        assertTrue(turns.stream().allMatch(TurnInfo::isFinished));
+        assertTrue(game.getTurnNumber() <= 31);
+    }
+
+    @Test
+    void autoplay() throws GameException, TurnException {
+        Monopoly stepByStep = new Monopoly(players, 7);
+        Monopoly forced = new Monopoly(players, 7);
+        new GameRunner(stepByStep, strategies).maxTurns(30).run();
+        new GameRunner(forced, strategies).maxTurns(30).autoplay(true).run();
+        assertEquals(stepByStep.getTurnNumber(), forced.getTurnNumber());
+        for (Player player : players) {
+            assertEquals(stepByStep.getPlayerInfo(player), forced.getPlayerInfo(player));
+        }
+    }
+
+    @Test
+    void stopWhen() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 7);
+        GameRunner runner = new GameRunner(game, strategies).stopWhen(g -> g.getTurnNumber() >= 5);
+        assertEquals(5, runner.run());
+        assertEquals(2, runner.getPlayersInGame());
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameRunner(game, ImmutableMap.of(player1, ObedientStrategy.getInstance())));
+    }
+}
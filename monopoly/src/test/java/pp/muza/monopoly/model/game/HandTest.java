@@ -0,0 +1,325 @@
+package pp.muza.monopoly.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pp.muza.monopoly.model.game.GameFixture.PLAYER1;
+import static pp.muza.monopoly.model.game.GameFixture.PLAYER2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.ActionType;
+import pp.muza.monopoly.model.RandomSource;
+import pp.muza.monopoly.model.pieces.actions.Action;
+import pp.muza.monopoly.model.pieces.actions.BaseActionCard;
+import pp.muza.monopoly.model.pieces.actions.Buy;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.pieces.actions.ChoiceAuction;
+import pp.muza.monopoly.model.pieces.actions.EndTurn;
+import pp.muza.monopoly.model.pieces.actions.FortuneCard;
+import pp.muza.monopoly.model.pieces.actions.Income;
+import pp.muza.monopoly.model.pieces.actions.MoveGetOrPay;
+import pp.muza.monopoly.model.pieces.actions.NewTurn;
+import pp.muza.monopoly.model.pieces.actions.OptionMove;
+import pp.muza.monopoly.model.pieces.actions.RollDice;
+import pp.muza.monopoly.model.pieces.actions.Submit;
+import pp.muza.monopoly.model.pieces.actions.Tax;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
+
+class HandTest {
+
+    /**
+     * Cards of every type and of several priorities; the two bids are equal but
+     * not identical, as their prices differ.
+     */
+    private static final List<ActionCard> CARDS = List.of(
+            NewTurn.create(),
+            RollDice.create(),
+            EndTurn.create(),
+            Buy.create(1),
+            Buy.create(2),
+            MoveGetOrPay.create(3),
+            OptionMove.create(2),
+            Tax.create(2),
+            Income.create(3),
+            ChoiceAuction.create(),
+            FortuneCard.create(Chance.GET_OUT_OF_JAIL_FREE),
+            FortuneCard.create(Chance.PRIZE),
+            Submit.create(PLAYER1, 5, 10),
+            Submit.create(PLAYER1, 5, 20),
+            Submit.create(PLAYER2, 5, 10));
+
+    /**
+     * The rules of the player's hand before it was indexed: a list of cards and a
+     * list of held cards.
+     */
+    private static final class BaselineHand {
+        private final List<ActionCard> cards = new ArrayList<>();
+        private final List<ActionCard> hold = new ArrayList<>();
+
+        int getCurrentPriority() {
+            boolean seen1 = false;
+            boolean seen2 = false;
+            int best1 = 0;
+            int best2 = 0;
+            for (ActionCard card : cards) {
+                if (hold.contains(card)) {
+                    continue;
+                }
+                int priority = card.getPriority();
+                if (card.getType().isMandatory()) {
+                    if (!seen1 || priority < best1) {
+                        seen1 = true;
+                        best1 = priority;
+                    }
+                } else if (!seen2 || priority < best2) {
+                    seen2 = true;
+                    best2 = priority;
+                }
+            }
+            return seen1 ? best1 : (seen2 ? best2 : BaseActionCard.LOW_PRIORITY);
+        }
+
+        List<ActionCard> getActiveCards() {
+            int currentPriority = getCurrentPriority();
+            return cards.stream()
+                    .filter(card -> card.getPriority() <= currentPriority)
+                    .filter(card -> !hold.contains(card))
+                    .sorted(Comparator.comparing(ActionCard::getPriority))
+                    .collect(Collectors.toList());
+        }
+
+        boolean add(ActionCard card) {
+            boolean result = true;
+            if (cards.contains(card)) {
+                result = hold.removeAll(Collections.singleton(card));
+                cards.removeAll(Collections.singleton(card));
+            }
+            cards.add(card);
+            return result;
+        }
+
+        ActionCard remove(ActionCard card) {
+            int i = cards.indexOf(card);
+            ActionCard result = i < 0 ? null : cards.get(i);
+            hold.removeAll(Collections.singleton(card));
+            cards.removeAll(Collections.singleton(card));
+            return result;
+        }
+
+        boolean removeAll(List<ActionCard> toRemove) {
+            hold.removeAll(toRemove);
+            return cards.removeAll(toRemove);
+        }
+
+        boolean hold(ActionCard card) {
+            int i = cards.indexOf(card);
+            if (i < 0 || hold.contains(card)) {
+                return false;
+            }
+            hold.add(cards.get(i));
+            return true;
+        }
+
+        boolean releaseAll() {
+            boolean result = !hold.isEmpty();
+            hold.clear();
+            return result;
+        }
+    }
+
+    private static void assertSameHand(BaselineHand expected, Hand actual) {
+        assertEquals(expected.cards, actual.getCards());
+        for (int i = 0; i < expected.cards.size(); i++) {
+            // an equal card is renewed, so the instances must match too
+            assertSame(expected.cards.get(i), actual.getCards().get(i));
+        }
+        assertEquals(expected.getCurrentPriority(), actual.getPriority());
+        assertEquals(expected.getActiveCards(), actual.getActiveCards());
+        assertEquals(new HashSet<>(expected.hold), new HashSet<>(actual.getHeldCards()));
+        for (ActionCard card : CARDS) {
+            assertEquals(expected.hold.contains(card), actual.isHeld(card));
+            assertEquals(expected.cards.contains(card), actual.contains(card));
+        }
+        for (Action action : Action.values()) {
+            List<ActionCard> cards = expected.cards.stream()
+                    .filter(card -> card.getAction() == action)
+                    .collect(Collectors.toList());
+            assertEquals(cards.size(), actual.count(action));
+            assertEquals(cards, actual.getCards(action));
+        }
+        for (ActionType type : ActionType.values()) {
+            assertEquals(expected.cards.stream().filter(card -> card.getType() == type).count(), actual.count(type));
+        }
+        assertEquals(expected.cards.stream().filter(card -> card.getType().isMandatory()).collect(Collectors.toList()),
+                actual.getMandatoryCards());
+    }
+
+    /**
+     * Applies a random change to both hands and asserts the results agree.
+     */
+    private static void change(RandomSource random, BaselineHand expected, Hand actual) {
+        ActionCard card = CARDS.get(random.nextInt(CARDS.size()));
+        switch (random.nextInt(6)) {
+            case 0:
+            case 1:
+                assertEquals(expected.add(card), actual.add(card));
+                break;
+            case 2:
+                assertEquals(expected.remove(card), actual.remove(card));
+                break;
+            case 3:
+                List<ActionCard> cards = List.of(card, CARDS.get(random.nextInt(CARDS.size())));
+                assertEquals(expected.removeAll(cards), actual.removeAll(cards));
+                break;
+            case 4:
+                assertEquals(expected.hold(card), actual.hold(card));
+                break;
+            default:
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.releaseAll(), actual.releaseAll());
+                } else {
+                    assertEquals(expected.hold(card), actual.hold(card));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Reverts the hand to the mark, as {@link BaseGame#undo(int)} does for the hand's entries.
+     */
+    private static void undo(UndoLog undoLog, Hand hand, int mark) {
+        while (undoLog.size() > mark) {
+            undoLog.pop();
+            switch (undoLog.op()) {
+                case UndoLog.HAND_ADD:
+                    hand.undoAdd();
+                    break;
+                case UndoLog.HAND_REMOVE:
+                    hand.undoRemove(undoLog.second(), (ActionCard) undoLog.ref());
+                    break;
+                case UndoLog.HAND_HOLD:
+                    hand.undoHold(undoLog.second(), false);
+                    break;
+                case UndoLog.HAND_RELEASE:
+                    hand.undoHold(undoLog.second(), true);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected entry: " + undoLog.op());
+            }
+        }
+    }
+
+    @Test
+    void followsBaselineRules() {
+        RandomSource random = new RandomSourceImpl(9);
+        BaselineHand expected = new BaselineHand();
+        StateHash stateHash = new StateHash();
+        Hand actual = new Hand(new UndoLog(), stateHash, 0);
+        for (int i = 0; i < 5000; i++) {
+            change(random, expected, actual);
+            assertSameHand(expected, actual);
+            assertEquals(actual.computeHash(), stateHash.get());
+        }
+    }
+
+    @Test
+    void invalidatesCachedLists() {
+        Hand hand = new Hand();
+        hand.add(RollDice.create());
+        hand.add(EndTurn.create());
+        List<ActionCard> cards = hand.getCards();
+        List<ActionCard> active = hand.getActiveCards();
+        assertSame(cards, hand.getCards());
+        assertSame(active, hand.getActiveCards());
+        assertEquals(List.of(RollDice.create()), active);
+
+        hand.hold(RollDice.create());
+        assertNotSame(active, hand.getActiveCards());
+        assertEquals(List.of(EndTurn.create()), hand.getActiveCards());
+
+        active = hand.getActiveCards();
+        hand.releaseAll();
+        assertNotSame(active, hand.getActiveCards());
+        assertEquals(List.of(RollDice.create()), hand.getActiveCards());
+
+        active = hand.getActiveCards();
+        hand.add(NewTurn.create());
+        assertNotSame(cards, hand.getCards());
+        assertEquals(List.of(NewTurn.create()), hand.getActiveCards());
+        assertEquals(BaseActionCard.NEW_TURN_PRIORITY, hand.getPriority());
+
+        cards = hand.getCards();
+        hand.remove(NewTurn.create());
+        assertNotSame(cards, hand.getCards());
+        assertEquals(active, hand.getActiveCards());
+        assertEquals(RollDice.create().getPriority(), hand.getPriority());
+    }
+
+    @Test
+    void addingEqualCardRenewsIt() {
+        Hand hand = new Hand();
+        ActionCard first = Submit.create(PLAYER1, 5, 10);
+        ActionCard second = Submit.create(PLAYER1, 5, 20);
+        assertEquals(first, second);
+        assertTrue(hand.add(first));
+        assertTrue(hand.add(EndTurn.create()));
+        assertTrue(hand.hold(first));
+        assertTrue(hand.isHeld(second));
+
+        // a held card is released and moved to the top
+        assertTrue(hand.add(second));
+        assertEquals(List.of(EndTurn.create(), second), hand.getCards());
+        assertSame(second, hand.getCards().get(1));
+        assertSame(second, hand.get(first));
+        assertFalse(hand.isHeld(second));
+        assertEquals(1, hand.count(Action.SUBMIT));
+        assertEquals(List.of(), hand.getHeldCards());
+
+        // a card in play is renewed too, but reported as not added
+        assertFalse(hand.add(first));
+        assertEquals(List.of(EndTurn.create(), first), hand.getCards());
+        assertSame(first, hand.getCards().get(1));
+    }
+
+    @Test
+    void undoRestoresHand() {
+        RandomSource random = new RandomSourceImpl(17);
+        UndoLog undoLog = new UndoLog();
+        StateHash stateHash = new StateHash();
+        Hand hand = new Hand(undoLog, stateHash, 1);
+        BaselineHand expected = new BaselineHand();
+        for (int i = 0; i < 200; i++) {
+            change(random, expected, hand);
+            List<ActionCard> cards = hand.getCards();
+            List<ActionCard> held = hand.getHeldCards();
+            List<ActionCard> active = hand.getActiveCards();
+            long hash = stateHash.get();
+
+            int mark = undoLog.mark();
+            BaselineHand changed = new BaselineHand();
+            changed.cards.addAll(expected.cards);
+            changed.hold.addAll(expected.hold);
+            for (int j = 0; j < 5; j++) {
+                change(random, changed, hand);
+            }
+            undo(undoLog, hand, mark);
+
+            assertEquals(cards, hand.getCards());
+            assertEquals(held, hand.getHeldCards());
+            assertEquals(active, hand.getActiveCards());
+            assertEquals(hash, stateHash.get());
+            assertSameHand(expected, hand);
+        }
+    }
+}
@@ -3,10 +3,20 @@ package pp.muza.monopoly.model.game;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static pp.muza.monopoly.model.game.GameFixture.PLAYER1;
+import static pp.muza.monopoly.model.game.GameFixture.PLAYER2;
+import static pp.muza.monopoly.model.game.GameFixture.PLAYERS;
+import static pp.muza.monopoly.model.game.GameFixture.assertSameState;
+import static pp.muza.monopoly.model.game.GameFixture.playRandomly;
+import static pp.muza.monopoly.model.game.GameFixture.startedGame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -18,10 +28,15 @@ import pp.muza.monopoly.consts.Constants;
 import pp.muza.monopoly.consts.RuleOption;
 import pp.muza.monopoly.consts.RuleOptionValue;
 import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.PlayerInfo;
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.BankException;
 import pp.muza.monopoly.errors.GameException;
 import pp.muza.monopoly.errors.TurnException;
 import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.Asset;
+import pp.muza.monopoly.model.Game;
+import pp.muza.monopoly.model.GameEventListener;
 import pp.muza.monopoly.model.Land;
 import pp.muza.monopoly.model.Offer;
 import pp.muza.monopoly.model.PlayGame;
@@ -170,6 +185,43 @@ class MonopolyTest {
         }
     }
 
+    @Test
+    void playForcedCards() throws GameException, TurnException {
+        List<Player> players = ImmutableList.of(new Player("player1"), new Player("player2"));
+        PlayGame stepByStep = new Monopoly(players, 42);
+        PlayGame forced = new Monopoly(players, 42);
+        stepByStep.start();
+        forced.start();
+        for (int i = 0; i < 50 && stepByStep.isGameInProgress(); i++) {
+            playObediently(stepByStep, false);
+            playObediently(forced, true);
+            assertEquals(stepByStep.getTurnNumber(), forced.getTurnNumber());
+            for (Player player : players) {
+                assertEquals(stepByStep.getPlayerInfo(player), forced.getPlayerInfo(player));
+            }
+        }
+    }
+
+    private static void playObediently(PlayGame game, boolean forced) throws GameException, TurnException {
+        PlayTurn turn = game.getTurn();
+        while (!turn.isFinished()) {
+            if (forced) {
+                turn.playForcedCards();
+                if (turn.isFinished()) {
+                    break;
+                }
+                List<ActionCard> active = turn.getTurnInfo().getActiveCards();
+                assertTrue(active.size() != 1 || !active.get(0).getType().isMandatory());
+            }
+            ActionCard card = ObedientStrategy.getInstance().playTurn(game.getBoard(), game.getPlayers(), turn.getTurnInfo());
+            if (card != null) {
+                turn.playCards(List.of(card));
+            } else {
+                turn.endTurn();
+            }
+        }
+    }
+
     @Test
     void start() throws GameException, TurnException {
         // test if the game starts
@@ -483,4 +535,209 @@ class MonopolyTest {
         assertTrue(true);
     }
 
-}
\ No newline at end of file
+    @Test
+    void eventListener() throws GameException, TurnException {
+        Player player1 = new Player("player1");
+        Player player2 = new Player("player2");
+        Monopoly game = new Monopoly(ImmutableList.of(player1, player2), 1L);
+        List<ActionCard> played = new ArrayList<>();
+        List<Integer> moves = new ArrayList<>();
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void cardPlayed(Player player, ActionCard card) {
+                played.add(card);
+            }
+
+            @Override
+            public void moved(Player player, int from, int to) {
+                moves.add(to);
+            }
+        };
+        game.addEventListener(listener);
+        game.start();
+        PlayTurn turn = game.getTurn();
+        turn.playCard(NewTurn.create());
+        turn.playCard(RollDice.create());
+        assertEquals(List.of(NewTurn.create(), RollDice.create()), played);
+        assertEquals(0, moves.size());
+        ActionCard move = turn.getTurnInfo().getActiveCards().get(0);
+        assertTrue(move instanceof Move);
+        turn.playCard(move);
+        assertEquals(List.of(game.baseGame.playerData(player1).getPosition()), moves);
+        game.removeEventListener(listener);
+        turn.endTurn();
+        assertEquals(3, played.size());
+    }
+
+    @Test
+    void ownershipIndex() {
+        Player player1 = new Player("player1");
+        Player player2 = new Player("player2");
+        Monopoly monopoly = new Monopoly(ImmutableList.of(player1, player2));
+        Game game = monopoly.baseGame.getGame();
+        int properties = game.getAllProperties().size();
+        int coffeeShop = game.findProperty(Asset.COFFEE_SHOP);
+        int donutShop = game.findProperty(Asset.DONUT_SHOP);
+        monopoly.baseGame.setPropertyOwner(coffeeShop, player1);
+        assertEquals(properties - 1, game.getFreeProperties().size());
+        assertEquals(List.of(coffeeShop), monopoly.baseGame.belongings(player1));
+        int rent = game.getRent(coffeeShop);
+        monopoly.baseGame.setPropertyOwner(donutShop, player1);
+        assertEquals(rent * 2, game.getRent(coffeeShop));
+        assertEquals(2, game.getProperties(player1).size());
+        assertEquals(properties - 2, game.getNotOwnedProperties(player1).size());
+        assertEquals(properties, game.getNotOwnedProperties(player2).size());
+        monopoly.baseGame.setPropertyOwner(donutShop, player2);
+        assertEquals(rent, game.getRent(coffeeShop));
+        monopoly.baseGame.propertyOwnerRemove(coffeeShop);
+        assertEquals(0, game.getRent(coffeeShop));
+        assertEquals(0, game.getProperties(player1).size());
+        assertEquals(properties - 1, game.getFreeProperties().size());
+    }
+
+    @Test
+    void reset() throws GameException, TurnException {
+        Monopoly game = startedGame(7);
+        game.setReuseTurns(true);
+        playRandomly(game, 30);
+        for (List<Player> players : List.of(PLAYERS, List.of(PLAYER1, PLAYER2, new Player("player3")))) {
+            Monopoly fresh = new Monopoly(players, 11);
+            fresh.start();
+            playRandomly(fresh, 30);
+            game.reset(11, players);
+            game.start();
+            playRandomly(game, 30);
+            assertSameState(fresh, game);
+        }
+    }
+
+    @Test
+    void fork() throws GameException, TurnException {
+        Monopoly game = startedGame(13);
+        playRandomly(game, 10);
+        PlayTurn turn = game.getTurn();
+        turn.playCard(turn.getTurnInfo().getActiveCards().get(0));
+        GameInfo before = game.getGameInfo();
+        Monopoly fork = game.fork();
+        assertEquals(before, fork.getGameInfo());
+        playRandomly(game, 50);
+        assertEquals(before, fork.getGameInfo());
+        playRandomly(fork, 50);
+        assertSameState(game, fork);
+    }
+
+    @Test
+    void undo() throws GameException, TurnException {
+        Monopoly game = startedGame(17);
+        playRandomly(game, 5);
+        PlayTurn turn = game.getTurn();
+        turn.playCard(turn.getTurnInfo().getActiveCards().get(0));
+        GameInfo before = game.getGameInfo();
+        TurnInfo turnBefore = turn.getTurnInfo();
+        long hashBefore = game.getStateHash();
+        int mark = game.mark();
+        playRandomly(game, 10);
+        GameInfo middle = game.getGameInfo();
+        int nested = game.mark();
+        playRandomly(game, 45);
+        game.undo(nested);
+        assertEquals(middle, game.getGameInfo());
+        game.undo(mark);
+        assertEquals(before, game.getGameInfo());
+        assertEquals(hashBefore, game.getStateHash());
+        assertEquals(turnBefore, game.getTurn().getTurnInfo());
+        game.clearUndo();
+        playRandomly(game, 45);
+    }
+
+    @Test
+    void undoSameMarkTwice() throws GameException, TurnException {
+        Monopoly game = startedGame(23);
+        playRandomly(game, 3);
+        GameInfo before = game.getGameInfo();
+        long hash = game.getStateHash();
+        int mark = game.mark();
+        for (int branch = 0; branch < 3; branch++) {
+            // the dice are not rewound, so every branch plays differently
+            playRandomly(game, 5);
+            game.undo(mark);
+            assertEquals(before, game.getGameInfo());
+            assertEquals(hash, game.getStateHash());
+        }
+    }
+
+    @Test
+    void stateHash() throws GameException, TurnException {
+        Monopoly game = startedGame(19);
+        Set<Long> hashes = new HashSet<>();
+        int played = 0;
+        while (game.isGameInProgress() && played < 60) {
+            playRandomly(game, 1);
+            played++;
+            BaseGame baseGame = game.baseGame;
+            GameInfo gameInfo = baseGame.getGameInfo();
+            long expected = baseGame.computeStateHash()
+                    ^ DeckHash.of(gameInfo.getFortunes())
+                    ^ StateHash.key(StateHash.CURRENT, gameInfo.getCurrentPlayerIndex(), 0);
+            assertEquals(expected, game.getStateHash());
+            assertEquals(game.getStateHash(), new Monopoly(gameInfo).getStateHash());
+            hashes.add(game.getStateHash());
+        }
+        assertEquals(played, hashes.size());
+        assertEquals(game.getStateHash(), game.fork().getStateHash());
+    }
+
+    @Test
+    void stateHashIsStable() throws GameException, TurnException {
+        // the hash of a state is the same in every run, including the cards on the hands
+        Monopoly game = startedGame(19);
+        playRandomly(game, 12);
+        assertEquals(List.of(RentRevenue.create(2, PLAYER2, 1)), game.getCards(PLAYER1));
+        assertEquals(-2448249398480731960L, game.getStateHash());
+    }
+
+    @Test
+    void reusesSnapshots() throws GameException, TurnException, BankException {
+        Monopoly game = startedGame(3);
+        PlayTurn turn = game.getTurn();
+        Player player = turn.getPlayer();
+        Player other = player.equals(PLAYER1) ? PLAYER2 : PLAYER1;
+        PlayerInfo otherInfo = game.getPlayerInfo(other);
+        TurnInfo info = turn.getTurnInfo();
+        assertSame(info, turn.getTurnInfo());
+        assertSame(info.getPlayerInfo(), game.getPlayerInfo(player));
+
+        game.baseGame.getBank().deposit(player, 1);
+        info = assertNewSnapshot(game, turn, info);
+        assertEquals(info.getPlayerInfo().getCoins(), game.getBalance(player));
+
+        game.baseGame.playerData(player).setPosition((info.getPlayerInfo().getPosition() + 2) % game.getBoard().size());
+        info = assertNewSnapshot(game, turn, info);
+        assertEquals(game.baseGame.playerData(player).getPosition(), info.getPlayerInfo().getPosition());
+
+        game.baseGame.sendCardTest(player, Income.create(1));
+        info = assertNewSnapshot(game, turn, info);
+        assertTrue(info.getPlayerInfo().getActionCards().contains(Income.create(1)));
+
+        int steps = info.getStepNumber();
+        turn.playCard(info.getActiveCards().get(0));
+        info = assertNewSnapshot(game, turn, info);
+        assertEquals(steps + 1, info.getStepNumber());
+
+        // the other player did not change
+        assertSame(otherInfo, game.getPlayerInfo(other));
+    }
+
+    /**
+     * Asserts that the turn and the player have new snapshots, which are then reused.
+     */
+    private static TurnInfo assertNewSnapshot(Monopoly game, PlayTurn turn, TurnInfo previous) {
+        TurnInfo info = turn.getTurnInfo();
+        assertNotSame(previous, info);
+        assertNotSame(previous.getPlayerInfo(), info.getPlayerInfo());
+        assertSame(info, turn.getTurnInfo());
+        assertSame(info.getPlayerInfo(), game.getPlayerInfo(turn.getPlayer()));
+        return info;
+    }
+
+}
@@ -0,0 +1,143 @@
+package pp.muza.monopoly.model.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.PlayerInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Offer;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GameRunner;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.pieces.actions.Arrival;
+import pp.muza.monopoly.model.pieces.actions.Bid;
+import pp.muza.monopoly.model.pieces.actions.BirthdayParty;
+import pp.muza.monopoly.model.pieces.actions.Buy;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.pieces.actions.ChoiceAuction;
+import pp.muza.monopoly.model.pieces.actions.ChoiceContract;
+import pp.muza.monopoly.model.pieces.actions.ChoiceFortuneCard;
+import pp.muza.monopoly.model.pieces.actions.Contract;
+import pp.muza.monopoly.model.pieces.actions.EndAuction;
+import pp.muza.monopoly.model.pieces.actions.EndTurn;
+import pp.muza.monopoly.model.pieces.actions.FortuneCard;
+import pp.muza.monopoly.model.pieces.actions.GetOrPay;
+import pp.muza.monopoly.model.pieces.actions.Gift;
+import pp.muza.monopoly.model.pieces.actions.GoReward;
+import pp.muza.monopoly.model.pieces.actions.GoToJail;
+import pp.muza.monopoly.model.pieces.actions.Income;
+import pp.muza.monopoly.model.pieces.actions.JailFine;
+import pp.muza.monopoly.model.pieces.actions.Move;
+import pp.muza.monopoly.model.pieces.actions.MoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.MoveGetOrPay;
+import pp.muza.monopoly.model.pieces.actions.MoveTo;
+import pp.muza.monopoly.model.pieces.actions.NewTurn;
+import pp.muza.monopoly.model.pieces.actions.OptionMove;
+import pp.muza.monopoly.model.pieces.actions.OptionMoveTo;
+import pp.muza.monopoly.model.pieces.actions.OwnershipPrivilege;
+import pp.muza.monopoly.model.pieces.actions.PayRent;
+import pp.muza.monopoly.model.pieces.actions.PromoteAuction;
+import pp.muza.monopoly.model.pieces.actions.ReceiveMoney;
+import pp.muza.monopoly.model.pieces.actions.RentRevenue;
+import pp.muza.monopoly.model.pieces.actions.RollDice;
+import pp.muza.monopoly.model.pieces.actions.Sale;
+import pp.muza.monopoly.model.pieces.actions.SpawnMoveAndTakeover;
+import pp.muza.monopoly.model.pieces.actions.StartAuction;
+import pp.muza.monopoly.model.pieces.actions.Submit;
+import pp.muza.monopoly.model.pieces.actions.Takeover;
+import pp.muza.monopoly.model.pieces.actions.Tax;
+import pp.muza.monopoly.strategy.DefaultStrategy;
+
+class GameInfoCodecTest {
+
+    private final List<Player> players = List.of(new Player("player1"), new Player("player2"), new Player("player3"));
+
+    private static GameInfo roundTrip(GameInfo gameInfo) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        GameInfoCodec.write(buffer, gameInfo);
+        buffer.flip();
+        GameInfo result = GameInfoCodec.read(buffer);
+        assertFalse(buffer.hasRemaining());
+        return result;
+    }
+
+    @Test
+    void playedGame() throws GameException, TurnException {
+        Map<Player, Strategy> strategies = players.stream()
+                .collect(Collectors.toMap(Function.identity(), player -> DefaultStrategy.getInstance()));
+        Monopoly game = new Monopoly(players, 5);
+        new GameRunner(game, strategies).maxTurns(40).run();
+        GameInfo gameInfo = game.getGameInfo();
+        GameInfo decoded = roundTrip(gameInfo);
+        assertEquals(gameInfo, decoded);
+        assertEquals(gameInfo, new Monopoly(decoded).getGameInfo());
+    }
+
+    @Test
+    void allCards() {
+        Player player1 = players.get(0);
+        Player player2 = players.get(1);
+        List<ActionCard> cards = new ArrayList<>(List.of(
+                Arrival.create(3), Bid.create(4, 300), BirthdayParty.create(), Buy.create(5),
+                ChoiceAuction.create(), ChoiceContract.create(), ChoiceFortuneCard.create(), Contract.create(7, 3),
+                EndAuction.create(8, -2), EndTurn.create(), GetOrPay.create(10), Gift.create(2, player2),
+                GoReward.create(2), GoToJail.create(), Income.create(4), JailFine.create(1), Move.create(11),
+                MoveAndTakeover.create(13), MoveGetOrPay.create(14), MoveTo.create(0), NewTurn.create(),
+                OptionMove.create(5), OptionMoveTo.create(17), OwnershipPrivilege.create(19),
+                PayRent.create(3, player2, 20), PromoteAuction.create(22, 70_000), ReceiveMoney.create(1, player2),
+                RentRevenue.create(2, player2, 23), RollDice.create(), Sale.create(1, 6, player2),
+                SpawnMoveAndTakeover.create(), StartAuction.create(), Submit.create(player2, 2, -150_000),
+                Takeover.create(16), Tax.create(2)));
+        for (Chance chance : Chance.values()) {
+            cards.add(FortuneCard.create(chance));
+        }
+        assertEquals(CardKind.values().length, cards.stream().map(ActionCard::getClass).distinct().count());
+        GameInfo gameInfo = new Monopoly(players, 1).getGameInfo();
+        List<PlayerInfo> playerInfo = gameInfo.getPlayerInfo().stream()
+                .map(info -> info.getPlayer().equals(player1) ? info.toBuilder().actionCards(cards).build() : info)
+                .collect(Collectors.toList());
+        GameInfo withCards = GameInfo.builder()
+                .players(gameInfo.getPlayers())
+                .playerInfo(playerInfo)
+                .rules(gameInfo.getRules())
+                .board(gameInfo.getBoard())
+                .fortunes(gameInfo.getFortunes())
+                .currentPlayerIndex(gameInfo.getCurrentPlayerIndex())
+                .turnNumber(gameInfo.getTurnNumber())
+                .maxTurns(gameInfo.getMaxTurns())
+                .build();
+        GameInfo decoded = roundTrip(withCards);
+        assertEquals(withCards, decoded);
+        // the prices are not compared by equals
+        List<ActionCard> decodedCards = decoded.getPlayerInfo().get(0).getActionCards();
+        assertEquals(300, price(decodedCards, Bid.class));
+        assertEquals(-2, price(decodedCards, EndAuction.class));
+        assertEquals(70_000, price(decodedCards, PromoteAuction.class));
+        assertEquals(-150_000, price(decodedCards, Submit.class));
+    }
+
+    private static int price(List<ActionCard> cards, Class<? extends ActionCard> type) {
+        ActionCard card = cards.stream().filter(type::isInstance).findFirst().orElseThrow();
+        return card instanceof Submit ? ((Submit) card).getPrice() : ((Offer) card).getPrice();
+    }
+
+    @Test
+    void version() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) (GameInfoCodec.VERSION + 1)});
+        assertThrows(IllegalArgumentException.class, () -> GameInfoCodec.read(buffer));
+    }
+}
@@ -0,0 +1,70 @@
+package pp.muza.monopoly.model.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static pp.muza.monopoly.model.game.GameFixture.assertSameState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GameRunner;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.strategy.DefaultStrategy;
+
+class JournalTest {
+
+    @Test
+    void replay() throws GameException, TurnException, IOException {
+        List<Player> players = List.of(new Player("player1"), new Player("player2"), new Player("player3"));
+        Map<Player, Strategy> strategies = players.stream()
+                .collect(Collectors.toMap(Function.identity(), player -> DefaultStrategy.getInstance()));
+        Path file = Files.createTempFile("journal", ".seg");
+        try {
+            Monopoly[] played = new Monopoly[3];
+            GameInfo[] halfway = new GameInfo[3];
+            int[] decisions = new int[3];
+            try (JournalSegment segment = JournalSegment.create(file, 1 << 20)) {
+                for (int seed = 0; seed < played.length; seed++) {
+                    Monopoly game = new Monopoly(players, seed);
+                    GameJournal journal = new GameJournal(game, seed);
+                    int seat = seed;
+                    new GameRunner(game, strategies).maxTurns(60)
+                            .stopWhen(g -> {
+                                if (halfway[seat] == null && g.getTurnNumber() == 30) {
+                                    halfway[seat] = game.getGameInfo();
+                                    decisions[seat] = journal.getDecisions();
+                                }
+                                return false;
+                            })
+                            .run();
+                    segment.append(journal.finish());
+                    played[seed] = game;
+                }
+            }
+            try (JournalSegment segment = JournalSegment.open(file)) {
+                assertEquals(played.length, segment.size());
+                for (int i = 0; i < played.length; i++) {
+                    JournalRecord record = segment.get(i);
+                    assertEquals(i, record.getSeed());
+                    assertEquals(players, record.getPlayers());
+                    assertSameState(played[i], GameReplayer.replay(record));
+                    Monopoly replayed = GameReplayer.replay(record, decisions[i]);
+                    assertSameState(new Monopoly(halfway[i]), replayed);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
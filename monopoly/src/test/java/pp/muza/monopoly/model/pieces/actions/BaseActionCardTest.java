@@ -0,0 +1,44 @@
+package pp.muza.monopoly.model.pieces.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.Turn;
+
+class BaseActionCardTest {
+
+    private static List<ActionCard> playToSink(BaseActionCard card, Turn turn) {
+        List<ActionCard> result = new ArrayList<>();
+        card.play(turn, result::add);
+        return result;
+    }
+
+    @Test
+    void sinkCard() {
+        Turn turn = mock(Turn.class);
+        when(turn.getPlayerStatus()).thenReturn(PlayerStatus.IN_GAME);
+        BaseActionCard card = (BaseActionCard) NewTurn.create();
+
+        List<ActionCard> expected = List.of(RollDice.create(), EndTurn.create());
+        assertEquals(expected, playToSink(card, turn));
+        assertEquals(expected, card.play(turn));
+    }
+
+    @Test
+    void listCard() {
+        Turn turn = mock(Turn.class);
+        BaseActionCard card = (BaseActionCard) FortuneCard.create(Chance.PRIZE);
+
+        List<ActionCard> expected = card.onExecute(turn);
+        assertEquals(expected, playToSink(card, turn));
+        assertEquals(expected, card.play(turn));
+    }
+}
@@ -0,0 +1,48 @@
+package pp.muza.monopoly.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.strategy.DefaultStrategy;
+
+class SimulationTest {
+
+    @Test
+    void seedSpliteratorTest() {
+        SeedSpliterator spliterator = new SeedSpliterator(10, 20);
+        assertEquals(10, spliterator.estimateSize());
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, spliterator.estimateSize());
+        assertEquals(145, StreamSupport.longStream(new SeedSpliterator(10, 20), true).sum());
+        assertThrows(IllegalArgumentException.class, () -> new SeedSpliterator(2, 1));
+    }
+
+    @Test
+    void runTest() {
+        List<Strategy> strategies = List.of(DefaultStrategy.getInstance(), DefaultStrategy.getInstance());
+        Simulation simulation = new Simulation(2, strategies, 20);
+        SimulationResult result = simulation.run(0, 4, 2);
+        assertEquals(4, result.getGames());
+        assertEquals(4, result.getWins(0) + result.getWins(1) + result.getDraws());
+        assertTrue(result.getTurns() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new Simulation(3, strategies));
+    }
+
+    @Test
+    void reproducibilityTest() {
+        List<Strategy> strategies = List.of(DefaultStrategy.getInstance(), DefaultStrategy.getInstance(),
+                DefaultStrategy.getInstance());
+        Simulation simulation = new Simulation(3, strategies, 30);
+        assertEquals(simulation.play(42), simulation.play(42));
+        assertEquals(simulation.run(0, 6, 1), simulation.run(0, 6, 3));
+    }
+}
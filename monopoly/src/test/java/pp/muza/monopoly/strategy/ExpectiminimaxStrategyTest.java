@@ -0,0 +1,111 @@
+package pp.muza.monopoly.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.PlayerInfo;
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GameRunner;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.pieces.actions.MoveGetOrPay;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
+import pp.muza.stuff.IndexedEntry;
+
+class ExpectiminimaxStrategyTest {
+
+    private final List<Player> players = List.of(new Player("player1"), new Player("player2"), new Player("player3"));
+
+    @Test
+    void playGame() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 11);
+        try (ExpectiminimaxStrategy search = new ExpectiminimaxStrategy(game).maxDepth(3).threads(2)) {
+            Map<Player, Strategy> strategies = new HashMap<>();
+            strategies.put(players.get(0), search);
+            strategies.put(players.get(1), DefaultStrategy.getInstance());
+            strategies.put(players.get(2), DefaultStrategy.getInstance());
+            int turns = new GameRunner(game, strategies).autoplay(true).maxTurns(30).run();
+            assertTrue(turns > 0);
+        }
+    }
+
+    @Test
+    void searchKeepsGame() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        game.start();
+        PlayTurn turn = MctsStrategyTest.choice(game);
+        GameInfo before = game.getGameInfo();
+        long hash = game.getStateHash();
+        TurnInfo turnInfo = turn.getTurnInfo();
+        ActionCard card = new ExpectiminimaxStrategy(game).maxDepth(4).timeBudget(Duration.ofMillis(50))
+                .playTurn(game.getBoard(), players, turnInfo, new RandomSourceImpl(1));
+        assertTrue(card == null || turnInfo.getActiveCards().contains(card));
+        assertTrue(SearchSupport.options(turnInfo.getActiveCards()).size() > 1);
+        assertEquals(hash, game.getStateHash());
+        assertEquals(before, game.getGameInfo());
+    }
+
+    /**
+     * The player moves either to a free property, which they get for free, or to
+     * a property of an opponent, to whom they pay rent.
+     */
+    @Test
+    void picksDominantOption() throws GameException, TurnException {
+        Monopoly start = new Monopoly(players, 7);
+        start.start();
+        List<IndexedEntry<Property>> properties = start.getBoard().getProperties();
+        ActionCard free = MoveGetOrPay.create(properties.get(properties.size() - 1).getIndex());
+        int owned = properties.get(properties.size() - 2).getIndex();
+        ActionCard rent = MoveGetOrPay.create(owned);
+        for (List<ActionCard> hand : List.of(List.of(free, rent), List.of(rent, free))) {
+            Monopoly game = new Monopoly(withHand(start.getGameInfo(), hand, owned), new RandomSourceImpl(1));
+            TurnInfo turnInfo = game.getTurn().getTurnInfo();
+            assertEquals(2, SearchSupport.options(turnInfo.getActiveCards()).size());
+            ActionCard card = new ExpectiminimaxStrategy(game).maxDepth(3).timeBudget(Duration.ofSeconds(10))
+                    .playTurn(game.getBoard(), players, turnInfo, new RandomSourceImpl(1));
+            assertEquals(free, card);
+        }
+    }
+
+    /**
+     * Returns the game in the first turn of the first player, who has the hand,
+     * with the property owned by the second player.
+     */
+    private GameInfo withHand(GameInfo info, List<ActionCard> hand, int property) {
+        List<PlayerInfo> playerInfo = new ArrayList<>();
+        for (PlayerInfo playerState : info.getPlayerInfo()) {
+            PlayerInfo.PlayerInfoBuilder builder = playerState.toBuilder().actionCards(List.of());
+            if (playerState.getPlayer().equals(players.get(0))) {
+                builder.actionCards(hand);
+            } else if (playerState.getPlayer().equals(players.get(1))) {
+                builder.belongings(List.of(property));
+            }
+            playerInfo.add(builder.build());
+        }
+        return GameInfo.builder()
+                .players(players)
+                .playerInfo(playerInfo)
+                .rules(info.getRules())
+                .board(info.getBoard())
+                .fortunes(info.getFortunes())
+                .currentPlayerIndex(0)
+                .turnNumber(1)
+                .maxTurns(info.getMaxTurns())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package pp.muza.monopoly.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GameRunner;
+import pp.muza.monopoly.model.game.Monopoly;
+import pp.muza.monopoly.model.random.RandomSourceImpl;
+
+class MctsStrategyTest {
+
+    private final List<Player> players = List.of(new Player("player1"), new Player("player2"), new Player("player3"));
+
+    @Test
+    void playGame() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 11);
+        try (MctsStrategy mcts = new MctsStrategy(game).iterations(40).depth(6).threads(2)) {
+            Map<Player, Strategy> strategies = new HashMap<>();
+            strategies.put(players.get(0), mcts);
+            strategies.put(players.get(1), DefaultStrategy.getInstance());
+            strategies.put(players.get(2), DefaultStrategy.getInstance());
+            int turns = new GameRunner(game, strategies).autoplay(true).maxTurns(30).run();
+            assertTrue(turns > 0);
+        }
+    }
+
+    @Test
+    void searchKeepsGame() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        game.start();
+        PlayTurn turn = choice(game);
+        GameInfo before = game.getGameInfo();
+        long hash = game.getStateHash();
+        TurnInfo turnInfo = turn.getTurnInfo();
+        ActionCard card = new MctsStrategy(game).iterations(100).depth(4)
+                .playTurn(game.getBoard(), players, turnInfo, new RandomSourceImpl(1));
+        assertTrue(card == null || turnInfo.getActiveCards().contains(card));
+        assertTrue(SearchSupport.options(turnInfo.getActiveCards()).size() > 1);
+        assertEquals(hash, game.getStateHash());
+        assertEquals(before, game.getGameInfo());
+    }
+
+    @Test
+    void iterationBudget() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        MctsStrategy mcts = new MctsStrategy(game).iterations(30).depth(4);
+        assertEquals(30, search(game, mcts));
+    }
+
+    @Test
+    void timeBudget() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        MctsStrategy mcts = new MctsStrategy(game).iterations(0).timeBudget(Duration.ofMillis(50)).depth(4);
+        long start = System.nanoTime();
+        assertTrue(search(game, mcts) > 0);
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    void mergesThreads() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        try (MctsStrategy mcts = new MctsStrategy(game).iterations(60).depth(4).threads(3)) {
+            // every worker runs its share of the playouts
+            assertEquals(60, search(game, mcts));
+        }
+    }
+
+    @Test
+    void reusesTree() throws GameException, TurnException {
+        Monopoly game = new Monopoly(players, 5);
+        game.start();
+        TurnInfo turnInfo = choice(game).getTurnInfo();
+        MctsStrategy mcts = new MctsStrategy(game).iterations(40).depth(4);
+        RandomSourceImpl random = new RandomSourceImpl(1);
+        mcts.playTurn(game.getBoard(), players, turnInfo, random);
+        assertEquals(40, IntStream.of(mcts.getVisits()).sum());
+        // the state is found in the tree, which keeps the visits of the first search
+        mcts.playTurn(game.getBoard(), players, turnInfo, random);
+        assertEquals(80, IntStream.of(mcts.getVisits()).sum());
+    }
+
+    /**
+     * Searches the first decision with more than one option and returns the visits of the root.
+     */
+    private int search(Monopoly game, MctsStrategy mcts) throws GameException, TurnException {
+        game.start();
+        TurnInfo turnInfo = choice(game).getTurnInfo();
+        mcts.playTurn(game.getBoard(), players, turnInfo, new RandomSourceImpl(1));
+        return IntStream.of(mcts.getVisits()).sum();
+    }
+
+    /**
+     * Plays the forced cards and the only option of every decision up to a turn
+     * with more than one option.
+     */
+    static PlayTurn choice(Monopoly game) throws GameException, TurnException {
+        while (true) {
+            PlayTurn turn = game.getTurn();
+            turn.playForcedCards();
+            if (turn.isFinished()) {
+                continue;
+            }
+            List<ActionCard> options = SearchSupport.options(turn.getTurnInfo().getActiveCards());
+            if (options.size() > 1) {
+                return turn;
+            }
+            if (options.get(0) != null) {
+                turn.playCard(options.get(0));
+            } else {
+                turn.endTurn();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package pp.muza.monopoly.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+    @Test
+    void packsEntry() {
+        TranspositionTable table = new TranspositionTable(16);
+        assertEquals(TranspositionTable.MISS, table.probe(7));
+
+        table.store(7, 0.375, TranspositionTable.MAX_DEPTH, TranspositionTable.MAX_OPTION);
+        long data = table.probe(7);
+        assertEquals(0.375, TranspositionTable.value(data));
+        assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.MAX_OPTION, TranspositionTable.best(data));
+
+        table.store(8, -1.5, 0, 0);
+        data = table.probe(8);
+        assertEquals(-1.5, TranspositionTable.value(data));
+        assertEquals(0, TranspositionTable.depth(data));
+        assertEquals(0, TranspositionTable.best(data));
+    }
+
+    @Test
+    void rejectsInvalidEntry() {
+        TranspositionTable table = new TranspositionTable(16);
+        assertThrows(IllegalArgumentException.class, () -> table.store(7, 0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.store(7, 0, TranspositionTable.MAX_DEPTH + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.store(7, 0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> table.store(7, 0, 0, TranspositionTable.MAX_OPTION + 1));
+        assertEquals(TranspositionTable.MISS, table.probe(7));
+    }
+
+    @Test
+    void keepsDeeperEntry() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(5, 0.5, 3, 1);
+        table.store(5, 0.25, 2, 2);
+        assertEquals(3, TranspositionTable.depth(table.probe(5)));
+        assertEquals(1, TranspositionTable.best(table.probe(5)));
+
+        table.store(5, 0.25, 4, 2);
+        assertEquals(4, TranspositionTable.depth(table.probe(5)));
+        assertEquals(2, TranspositionTable.best(table.probe(5)));
+
+        // 21 takes the slot of 5 whatever the depths
+        table.store(21, 0.75, 1, 0);
+        assertEquals(TranspositionTable.MISS, table.probe(5));
+        assertEquals(1, TranspositionTable.depth(table.probe(21)));
+    }
+
+    @Test
+    void rejectsTornEntry() {
+        TranspositionTable table = new TranspositionTable(16);
+        long first = TranspositionTable.pack(0.5, 3, 1);
+        long second = TranspositionTable.pack(0.25, 2, 2);
+        // the key half of one writer with the data half of another
+        table.write(5, 5 ^ first, second);
+        assertEquals(TranspositionTable.MISS, table.probe(5));
+        assertEquals(TranspositionTable.MISS, table.probe(21));
+
+        table.write(5, 5 ^ second, second);
+        assertEquals(second, table.probe(5));
+    }
+}
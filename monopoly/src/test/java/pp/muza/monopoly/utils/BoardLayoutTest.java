@@ -9,9 +9,13 @@ import org.junit.jupiter.api.Test;
 import pp.muza.monopoly.model.Board;
 import pp.muza.monopoly.model.BoardLayout;
 import pp.muza.monopoly.model.Land;
+import pp.muza.monopoly.model.Property;
+import pp.muza.monopoly.model.PropertyColor;
+import pp.muza.monopoly.model.Transition;
 import pp.muza.monopoly.model.pieces.lands.LandType;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 class BoardLayoutTest {
@@ -23,6 +27,46 @@ class BoardLayoutTest {
         Assertions.assertEquals(LandType.START, board.getLands().get(board.getStartPosition()).getType(), "Start should be the first land");
     }
 
+    @Test
+    void boardIndex() {
+        Board board = BoardLayout.defaultBoard();
+        int properties = 0;
+        for (int i = 0; i < board.size(); i++) {
+            Land land = board.getLand(i);
+            Assertions.assertTrue(board.getPositions(land.getType()).contains(i));
+            if (land.getType() == LandType.PROPERTY) {
+                Property property = (Property) land;
+                Assertions.assertEquals(i, board.getPosition(property.getAsset()));
+                Assertions.assertTrue(board.getPositions(property.getColor()).contains(i));
+                Assertions.assertEquals(property, board.getProperties().get(properties).getValue());
+                properties++;
+            }
+        }
+        Assertions.assertEquals(properties, board.getProperties().size());
+        Assertions.assertEquals(2, board.getPositions(PropertyColor.RED).size());
+        Assertions.assertEquals(LandType.JAIL, board.getLand(board.getJailPosition()).getType());
+    }
+
+    @Test
+    void transitions() {
+        Board board = BoardLayout.defaultBoard();
+        for (int from = 0; from < board.size(); from++) {
+            for (int to = 0; to < board.size(); to++) {
+                List<Integer> path = board.getPathTo(from, to);
+                Transition transition = board.getTransitionTo(from, to);
+                Assertions.assertEquals(to, transition.getTo());
+                Assertions.assertEquals(path.size(), transition.getDistance());
+                Assertions.assertEquals(board.getLand(to).getType(), transition.getArrival());
+                Assertions.assertEquals(board.getLands(path).stream()
+                        .anyMatch(land -> land.getType() == LandType.START), transition.passesStart());
+                if (from != to) {
+                    Assertions.assertEquals(to, board.getDestination(from, path.size()));
+                    Assertions.assertSame(transition, board.getTransition(from, path.size()));
+                }
+            }
+        }
+    }
+
     @Test
     void printBoard() throws JsonProcessingException {
         ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
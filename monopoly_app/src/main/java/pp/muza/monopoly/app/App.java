@@ -3,6 +3,8 @@ package pp.muza.monopoly.app;
 import static pp.muza.monopoly.app.I18n.resourceBundle;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -20,13 +22,12 @@ import pp.muza.monopoly.app.print.PrintBoard;
 import pp.muza.monopoly.app.print.Printer;
 import pp.muza.monopoly.app.stats.Statistics;
 import pp.muza.monopoly.consts.Constants;
-import pp.muza.monopoly.data.TurnInfo;
 import pp.muza.monopoly.errors.GameException;
 import pp.muza.monopoly.errors.TurnException;
-import pp.muza.monopoly.model.ActionCard;
 import pp.muza.monopoly.model.PlayGame;
-import pp.muza.monopoly.model.PlayTurn;
 import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.Strategy;
+import pp.muza.monopoly.model.game.GameRunner;
 import pp.muza.monopoly.model.game.Monopoly;
 import pp.muza.monopoly.strategy.DefaultStrategy;
 
@@ -103,25 +104,15 @@ public class App {
 
         Printer.println(PrintBoard.printBoard(game.getBoard()));
 
-        game.start();
-        while (game.isGameInProgress()) {
-            PlayTurn turn = game.getTurn();
-            ActionCard card = DefaultStrategy.getInstance().playTurn(game.getBoard(), game.getPlayers(),
-                    turn.getTurnInfo());
-            if (card != null) {
-                turn.playCard(card);
-            } else {
-                turn.endTurn();
-            }
-            if (turn.isFinished()) {
-                TurnInfo turnInfo = turn.getTurnInfo();
-                statistics.addTurnInfo(turnInfo);
-                Printer.printTurnInfo(game.getBoard(), turnInfo);
-            }
-            if (game.getTurnNumber() > Constants.DEFAULT_MAX_TURNS) {
-                break;
-            }
-        }
+        Map<Player, Strategy> strategies = players.stream()
+                .collect(Collectors.toMap(Function.identity(), player -> DefaultStrategy.getInstance()));
+        new GameRunner(game, strategies)
+                .maxTurns(Constants.DEFAULT_MAX_TURNS)
+                .addTurnCollector((g, turnInfo) -> {
+                    statistics.addTurnInfo(turnInfo);
+                    Printer.printTurnInfo(g.getBoard(), turnInfo);
+                })
+                .run();
         System.out.println(resourceBundle.getString("GAME_FINISHED"));
         Printer.printResults(game);
     }
@@ -0,0 +1,62 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.PlayTurn;
+import pp.muza.monopoly.model.Player;
+
+/**
+ * Helpers shared by the benchmarks.
+ *
+ * @author dmytromuza
+ */
+final class BenchmarkGames {
+
+    private BenchmarkGames() {
+    }
+
+    static List<Player> players(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Player("Player" + i))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Plays one step of the game: a random active card of the current player, or
+     * the end of the turn if there is nothing to play.
+     *
+     * @param game the game.
+     * @return false if the game is over.
+     */
+    static boolean step(Monopoly game) throws GameException, TurnException {
+        BaseGame baseGame = game.baseGame;
+        if (!baseGame.isGameInProgress() || baseGame.getTurnNumber() >= baseGame.maxTurns) {
+            return false;
+        }
+        PlayTurn turn = baseGame.getTurn();
+        List<ActionCard> cards = baseGame.getActiveCards(turn.getPlayer());
+        if (cards.isEmpty()) {
+            turn.endTurn();
+        } else {
+            turn.playCard(cards.get(turn.getRandom().nextInt(cards.size())));
+        }
+        return true;
+    }
+
+    /**
+     * Plays the game until the given turn starts, or until the game is over.
+     *
+     * @param game       the game.
+     * @param turnNumber the turn number.
+     */
+    static void playUntil(Monopoly game, int turnNumber) throws GameException, TurnException {
+        while (game.getTurnNumber() < turnNumber && step(game)) {
+            // keep playing
+        }
+    }
+}
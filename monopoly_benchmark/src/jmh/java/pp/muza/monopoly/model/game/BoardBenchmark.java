@@ -0,0 +1,85 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pp.muza.monopoly.model.Board;
+import pp.muza.monopoly.model.Game;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.pieces.lands.LandType;
+
+/**
+ * Board lookups: paths between positions and rent calculation.
+ * Every invocation visits all pairs of positions, or all properties of the board.
+ *
+ * @author dmytromuza
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private static final int BOARD_SIZE = 24;
+    private static final int PROPERTIES = 16;
+
+    private final int[] properties = new int[PROPERTIES];
+    private Board board;
+    private Game game;
+
+    @Setup
+    public void setup() {
+        Monopoly monopoly = new Monopoly(BenchmarkGames.players(2), 1L);
+        board = monopoly.getBoard();
+        if (board.size() != BOARD_SIZE) {
+            throw new IllegalStateException("Unexpected board size " + board.size());
+        }
+        game = monopoly.baseGame.getGame();
+        // every other property is owned, so both branches of the rent calculation are hit
+        Player owner = monopoly.getPlayers().get(0);
+        int count = 0;
+        for (int position = 0; position < board.size(); position++) {
+            if (board.getLand(position).getType() == LandType.PROPERTY) {
+                if (count % 2 == 0) {
+                    monopoly.baseGame.setPropertyOwner(position, owner);
+                }
+                properties[count++] = position;
+            }
+        }
+        if (count != PROPERTIES) {
+            throw new IllegalStateException("Unexpected number of properties " + count);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARD_SIZE * BOARD_SIZE)
+    public void pathTo(Blackhole blackhole) {
+        for (int start = 0; start < BOARD_SIZE; start++) {
+            for (int end = 0; end < BOARD_SIZE; end++) {
+                blackhole.consume(board.getPathTo(start, end));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROPERTIES)
+    public void rent(Blackhole blackhole) {
+        for (int position : properties) {
+            blackhole.consume(game.getRent(position));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pp.muza.monopoly.model.simulation.GameOutcome;
+import pp.muza.monopoly.model.simulation.Simulation;
+import pp.muza.monopoly.strategy.DefaultStrategy;
+
+/**
+ * End-to-end games per second.
+ *
+ * @author dmytromuza
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"2", "3", "4"})
+    int players;
+
+    private Simulation simulation;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        simulation = new Simulation(players, Collections.nCopies(players, DefaultStrategy.getInstance()));
+    }
+
+    @Benchmark
+    public GameOutcome playGame() {
+        return simulation.play(seed++);
+    }
+}
@@ -0,0 +1,71 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pp.muza.monopoly.model.ActionCard;
+import pp.muza.monopoly.model.Player;
+import pp.muza.monopoly.model.PlayerStatus;
+import pp.muza.monopoly.model.pieces.actions.Buy;
+import pp.muza.monopoly.model.pieces.actions.Chance;
+import pp.muza.monopoly.model.pieces.actions.EndTurn;
+import pp.muza.monopoly.model.pieces.actions.FortuneCard;
+import pp.muza.monopoly.model.pieces.actions.NewTurn;
+import pp.muza.monopoly.model.pieces.actions.OptionMove;
+import pp.muza.monopoly.model.pieces.actions.PayRent;
+import pp.muza.monopoly.model.pieces.actions.RentRevenue;
+
+/**
+ * Queries on the player's hand.
+ *
+ * @author dmytromuza
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerDataBenchmark {
+
+    private PlayerData playerData;
+
+    @Setup
+    public void setup() {
+        Player player = new Player("Player1");
+        Player other = new Player("Player2");
+        playerData = new PlayerData(player);
+        playerData.setStatus(PlayerStatus.IN_GAME);
+        playerData.addCard(NewTurn.create());
+        playerData.addCard(EndTurn.create());
+        playerData.addCard(Buy.create(5));
+        playerData.addCard(OptionMove.create(1));
+        playerData.addCard(OptionMove.create(2));
+        playerData.addCard(PayRent.create(2, other, 7));
+        playerData.addCard(RentRevenue.create(1, other, 4));
+        ActionCard keepable = FortuneCard.create(Chance.GET_OUT_OF_JAIL_FREE);
+        playerData.addCard(keepable);
+        playerData.holdCard(keepable);
+    }
+
+    @Benchmark
+    public List<ActionCard> activeCards() {
+        return playerData.getActiveCards();
+    }
+
+    @Benchmark
+    public int currentPriority() {
+        return playerData.getCurrentPriority();
+    }
+}
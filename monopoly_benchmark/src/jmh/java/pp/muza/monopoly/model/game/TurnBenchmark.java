@@ -0,0 +1,90 @@
+package pp.muza.monopoly.model.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pp.muza.monopoly.data.GameInfo;
+import pp.muza.monopoly.data.TurnInfo;
+import pp.muza.monopoly.errors.GameException;
+import pp.muza.monopoly.errors.TurnException;
+
+/**
+ * Card playing, game state snapshots and copies.
+ *
+ * @author dmytromuza
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TurnBenchmark {
+
+    private static final int PLAYERS = 4;
+    private static final int SNAPSHOT_TURN = 40;
+
+    private Monopoly game;
+    private Monopoly snapshotGame;
+    private long seed;
+
+    @Setup
+    public void setup() throws GameException, TurnException {
+        game = newGame();
+        // a game in the middle of play, with properties owned and cards on hands
+        snapshotGame = new Monopoly(BenchmarkGames.players(PLAYERS), 1L);
+        snapshotGame.start();
+        BenchmarkGames.playUntil(snapshotGame, SNAPSHOT_TURN);
+        snapshotGame.getTurn();
+    }
+
+    private Monopoly newGame() throws GameException {
+        Monopoly monopoly = new Monopoly(BenchmarkGames.players(PLAYERS), seed++);
+        monopoly.start();
+        return monopoly;
+    }
+
+    /**
+     * Plays one card (or ends the turn), which goes through {@link BaseTurn#playCard}.
+     */
+    @Benchmark
+    public Monopoly playCard() throws GameException, TurnException {
+        if (!BenchmarkGames.step(game)) {
+            game = newGame();
+        }
+        return game;
+    }
+
+    @Benchmark
+    public TurnInfo turnInfo() {
+        return snapshotGame.baseGame.currentTurn.getTurnInfo();
+    }
+
+    @Benchmark
+    public GameInfo gameInfo() {
+        return snapshotGame.getGameInfo();
+    }
+
+    @Benchmark
+    public Monopoly fork() {
+        return snapshotGame.fork();
+    }
+
+    /**
+     * The copy of a game through its snapshot, the baseline for {@link #fork()}.
+     */
+    @Benchmark
+    public Monopoly restore() {
+        return new Monopoly(snapshotGame.getGameInfo());
+    }
+}